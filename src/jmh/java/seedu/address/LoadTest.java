@@ -0,0 +1,281 @@
+package seedu.address;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.project.Project;
+import seedu.address.model.util.SyntheticAddressBookGenerator;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Runs a random mix of commands against a large generated address book without the GUI, and reports how long each
+ * kind of command took. Commands are executed through {@link LogicManager} and saved with the same storage as the
+ * app. Run with {@code gradlew loadTest -PloadTestArgs="--persons=100000 --commands=2000"}.
+ * <p>
+ * Options, all given as {@code --name=value}:
+ * <ul>
+ *     <li>{@code seed}: seed of the generated address book and the commands (default 1)</li>
+ *     <li>{@code persons}, {@code projects}, {@code tags}: sizes of the generated address book</li>
+ *     <li>{@code socials}, {@code membership}: chance from 0 to 1 of each social media account and project
+ *     membership</li>
+ *     <li>{@code commands}: number of commands to run (default 1000)</li>
+ *     <li>{@code mix}: relative weights of the command words, e.g. {@code find=3,list=1,add=1}</li>
+ *     <li>{@code data}: folder to write the address book to (default a new temporary folder)</li>
+ * </ul>
+ */
+public class LoadTest {
+
+    private static final String DEFAULT_MIX = "find=30,list=15,sort=10,add=10,edit=10,tag=10,delete=5,pshow=5,"
+            + "join=3,leave=2";
+    private static final List<String> SUPPORTED_COMMAND_WORDS = List.of("find", "list", "sort", "add", "edit", "tag",
+            "delete", "pshow", "join", "leave");
+    private static final String[] SORT_PREFIXES = {"n/", "e/", "p/", "a/", "pr/"};
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final Random random;
+    private final Logic logic;
+    private int addedPersonCount = 0;
+
+    private LoadTest(long seed, Logic logic) {
+        this.random = new Random(seed);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs the load test with the options in {@code args}.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        SyntheticAddressBookGenerator generator = new SyntheticAddressBookGenerator(seed)
+                .withPersons(getInt(options, "persons", SyntheticAddressBookGenerator.DEFAULT_PERSON_COUNT))
+                .withProjects(getInt(options, "projects", SyntheticAddressBookGenerator.DEFAULT_PROJECT_COUNT))
+                .withTags(getInt(options, "tags", SyntheticAddressBookGenerator.DEFAULT_TAG_COUNT))
+                .withSocialsDensity(getDouble(options, "socials",
+                        SyntheticAddressBookGenerator.DEFAULT_SOCIALS_DENSITY))
+                .withMembershipDensity(getDouble(options, "membership",
+                        SyntheticAddressBookGenerator.DEFAULT_MEMBERSHIP_DENSITY));
+        Path folder = options.containsKey("data")
+                ? Files.createDirectories(Path.of(options.get("data")))
+                : Files.createTempDirectory("LoadTest");
+        Path filePath = folder.resolve("addressbook.json");
+
+        long startTime = System.nanoTime();
+        new JsonAddressBookStorage(filePath).saveAddressBook(generator.generate());
+        System.out.printf("Generated %s in %.1f ms%n", filePath, toMillis(System.nanoTime() - startTime));
+
+        StorageManager storage = new StorageManager(new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(new JsonAddressBookStorage(filePath)),
+                JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")), true);
+        startTime = System.nanoTime();
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        System.out.printf("Read %d persons and %d projects in %.1f ms%n", addressBook.getPersonList().size(),
+                addressBook.getProjectList().size(), toMillis(System.nanoTime() - startTime));
+
+        Logic logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage);
+        LoadTest loadTest = new LoadTest(seed, logic);
+        Map<String, long[]> durations = loadTest.run(parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                getInt(options, "commands", 1000));
+        storage.flush();
+        printReport(durations);
+    }
+
+    /**
+     * Executes {@code commandCount} commands, each chosen with a chance proportional to its weight in {@code mix}.
+     * Returns the time taken by each execution of each command word, in nanoseconds, with failed executions as
+     * negative times.
+     */
+    private Map<String, long[]> run(Map<String, Integer> mix, int commandCount) {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Map<String, long[]> durations = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String commandWord : mix.keySet()) {
+            durations.put(commandWord, new long[commandCount]);
+            counts.put(commandWord, 0);
+        }
+
+        for (int i = 0; i < commandCount; i++) {
+            String commandWord = chooseCommandWord(mix, totalWeight);
+            String commandText = createCommandText(commandWord);
+
+            long startTime = System.nanoTime();
+            boolean isSuccessful = true;
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+            }
+            long duration = System.nanoTime() - startTime;
+
+            int count = counts.get(commandWord);
+            durations.get(commandWord)[count] = isSuccessful ? duration : -duration - 1;
+            counts.put(commandWord, count + 1);
+        }
+
+        durations.replaceAll((commandWord, times) -> Arrays.copyOf(times, counts.get(commandWord)));
+        return durations;
+    }
+
+    private String chooseCommandWord(Map<String, Integer> mix, int totalWeight) {
+        int choice = random.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            choice -= entry.getValue();
+            if (choice < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("Weights do not add up to " + totalWeight);
+    }
+
+    /**
+     * Returns a command that a user could have entered for {@code commandWord}, using the persons and projects
+     * currently in the address book.
+     */
+    private String createCommandText(String commandWord) {
+        switch (commandWord) {
+        case "find":
+            List<Person> persons = logic.getAddressBook().getPersonList();
+            return persons.isEmpty()
+                    ? "find Nobody"
+                    : "find " + persons.get(random.nextInt(persons.size())).getName().fullName.split(" ")[0];
+        case "list":
+            return "list";
+        case "sort":
+            return "sort " + SORT_PREFIXES[random.nextInt(SORT_PREFIXES.length)]
+                    + (random.nextBoolean() ? "asc" : "desc");
+        case "add":
+            addedPersonCount++;
+            return "add n/Load Test Person " + addedPersonCount + " p/" + (90000000 + addedPersonCount)
+                    + " e/loadtest" + addedPersonCount + "@example.com a/Blk 1 Load Test Street t/loadtest";
+        case "edit":
+            return "edit " + getRandomIndex() + " p/" + (80000000 + random.nextInt(20000000));
+        case "tag":
+            return "tag " + getRandomIndex() + " t/tagged" + random.nextInt(10);
+        case "delete":
+            return "delete " + getRandomIndex();
+        case "pshow":
+            return "pshow " + getRandomIndex();
+        case "join":
+            return "join n/" + getRandomProjectName() + " m/" + getRandomIndex();
+        case "leave":
+            return "leave n/" + getRandomProjectName() + " m/" + getRandomIndex();
+        default:
+            throw new IllegalArgumentException("Unsupported command word: " + commandWord);
+        }
+    }
+
+    /**
+     * Returns a one-based index into the displayed persons, which may be out of range if no persons are displayed.
+     */
+    private int getRandomIndex() {
+        int displayedCount = logic.getFilteredPersonList().size();
+        return displayedCount == 0 ? 1 : random.nextInt(displayedCount) + 1;
+    }
+
+    private String getRandomProjectName() {
+        List<Project> projects = logic.getAddressBook().getProjectList();
+        return projects.isEmpty() ? "None" : projects.get(random.nextInt(projects.size())).getName();
+    }
+
+    private static void printReport(Map<String, long[]> durations) {
+        System.out.printf("%-8s %7s %7s %10s %10s %10s %10s%n", "command", "count", "failed", "p50 ms", "p90 ms",
+                "p99 ms", "max ms");
+        for (Map.Entry<String, long[]> entry : durations.entrySet()) {
+            long[] times = entry.getValue();
+            if (times.length == 0) {
+                continue;
+            }
+            int failedCount = 0;
+            for (int i = 0; i < times.length; i++) {
+                if (times[i] < 0) {
+                    failedCount++;
+                    times[i] = -times[i] - 1;
+                }
+            }
+            Arrays.sort(times);
+
+            System.out.printf("%-8s %7d %7d", entry.getKey(), times.length, failedCount);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %10.3f", toMillis(getPercentile(times, percentile)));
+            }
+            System.out.printf(" %10.3f%n", toMillis(times[times.length - 1]));
+        }
+    }
+
+    /**
+     * Returns the nearest-rank {@code percentile} of the non-empty {@code sortedTimes}.
+     */
+    private static long getPercentile(long[] sortedTimes, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sortedTimes.length);
+        return sortedTimes[Math.max(rank, 1) - 1];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2 || !SUPPORTED_COMMAND_WORDS.contains(parts[0])) {
+                throw new IllegalArgumentException("Command mix entries must be COMMAND_WORD=WEIGHT with one of "
+                        + SUPPORTED_COMMAND_WORDS + ": " + entry);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Command weights must not be negative: " + entry);
+            }
+            weights.put(parts[0], weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("At least one command must have a positive weight");
+        }
+        return weights;
+    }
+
+    private static int getInt(Map<String, String> options, String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private static double getDouble(Map<String, String> options, String name, double defaultValue) {
+        return options.containsKey(name) ? Double.parseDouble(options.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating values with {@link String#matches(String)}, which compiles the regular expression on every
+ * call, against the validation methods of the model, which reuse compiled patterns or check the characters directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    private String name = "Alex Yeoh";
+    private String phone = "87438807";
+    private String email = "alexyeoh@example.com";
+    private String tag = "friends";
+
+    @Benchmark
+    public boolean name_stringMatches() {
+        return name.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean name_isValid() {
+        return Name.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean phone_stringMatches() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phone_isValid() {
+        return Phone.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean email_stringMatches() {
+        return email.matches(Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean email_isValid() {
+        return Email.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean tag_stringMatches() {
+        return tag.matches(Tag.VALIDATION_REGEX) && tag.length() <= Tag.MAX_TAG_LENGTH;
+    }
+
+    @Benchmark
+    public boolean tag_isValid() {
+        return Tag.isValidTagName(tag);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures sorting shuffled persons with the order of each {@code sort} command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortPersonsCommandBenchmark {
+
+    @Param({"10000", "100000"})
+    private int personCount;
+
+    @Param({"n/", "e/", "p/", "a/", "pr/"})
+    private String attribute;
+
+    @Param({"true", "false"})
+    private boolean ascending;
+
+    private Person[] shuffledPersons;
+    private Comparator<Person> comparator;
+
+    @Setup
+    public void setUp() throws CommandException {
+        List<Person> persons = new ArrayList<>(Arrays.asList(SyntheticDataUtil.getSyntheticPersons(personCount)));
+        Collections.shuffle(persons, new Random(0));
+        shuffledPersons = persons.toArray(new Person[0]);
+        comparator = new SortPersonsCommand(new Prefix(attribute), ascending).getComparator();
+    }
+
+    @Benchmark
+    public Person[] sort_shuffledPersons() {
+        Person[] persons = shuffledPersons.clone();
+        Arrays.sort(persons, comparator);
+        return persons;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a typical user input for every command word.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 dc/johnny.doe "
+                + "li/linkedin.com/in/johndoe ig/@john_doe yt/youtube.com/@johndoe pr/HIGH t/friends t/owesMoney",
+        "edit 1 p/91234567 e/johndoe@example.com",
+        "delete 1 3 5",
+        "clear",
+        "find John 87884397 @gmail.com",
+        "list",
+        "exit",
+        "help",
+        "tag 1 2 3 t/websiteRedesign t/highPriority",
+        "sort pr/desc",
+        "padd n/IndiDex v1.3 d/2025-12-31 pr/HIGH m/1 m/3",
+        "pdelete n/IndiDex Website Revamp",
+        "deadline",
+        "pedit Razer Collaboration Video n/Razer Advertisement d/2025-12-25 pr/HIGH",
+        "pshow 1",
+        "pdetails n/IndiDex Website Revamp",
+        "leave n/IndiDex v1.3 m/1 m/3",
+        "join n/IndiDex v1.3 m/1 m/3"
+    })
+    private String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Compares searching persons by the start of words or with typos in a {@code PersonSearchIndex} against ranking
+ * every person directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonSearchIndexBenchmark {
+
+    @Param({"100000"})
+    private int personCount;
+
+    // An exact handle, a prefix of a few hundred handles, handles with typos, a tag with a typo and a name word
+    @Param({"alexyeoh1234", "alexyeoh12", "alexyoeh1234", "colleages", "Balakrishnan"})
+    private String keywords;
+
+    private Person[] persons;
+    private List<String> keywordList;
+    private PersonSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(personCount);
+        keywordList = Arrays.asList(keywords.split("\\s+"));
+        index = new PersonSearchIndex();
+        index.setPersons(Arrays.asList(persons));
+    }
+
+    @Benchmark
+    public Map<Person, Integer> search_index() {
+        return index.search(keywordList);
+    }
+
+    /**
+     * Returns the number of persons matching the keywords.
+     */
+    @Benchmark
+    public int getRank_allPersons() {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (PersonSearchIndex.getRank(person, keywordList) != PersonSearchIndex.RANK_NONE) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+}
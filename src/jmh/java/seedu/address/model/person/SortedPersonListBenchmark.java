@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.model.person.PersonSortOrder.SortKey;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Compares sorting the persons shown by a {@code SortedPersonList}, sequentially and in parallel, with
+ * {@code FXCollections.sort} and with the {@code SortedList} that it replaces, by name and by priority.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortedPersonListBenchmark {
+
+    private static final Comparator<Person> BY_NAME =
+            new PersonSortOrder(List.of(new SortKey(PersonSortField.NAME, true))).getComparator();
+    private static final Comparator<Person> BY_PRIORITY =
+            new PersonSortOrder(List.of(new SortKey(PersonSortField.PRIORITY, false))).getComparator();
+
+    @Param({"10000", "100000"})
+    private int personCount;
+
+    @Param({"name", "priority"})
+    private String sortField;
+
+    private ObservableList<Person> shuffledPersons;
+    private Comparator<Person> comparator;
+    private SortedPersonList sequentialList;
+    private SortedPersonList parallelList;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = Arrays.asList(SyntheticDataUtil.getSyntheticPersons(personCount));
+        Collections.shuffle(persons, new Random(42));
+        shuffledPersons = FXCollections.observableArrayList(persons);
+        comparator = sortField.equals("name") ? BY_NAME : BY_PRIORITY;
+        sequentialList = new SortedPersonList(shuffledPersons, null);
+        sequentialList.setParallelSortThreshold(Integer.MAX_VALUE);
+        parallelList = new SortedPersonList(shuffledPersons, null);
+        parallelList.setParallelSortThreshold(1);
+    }
+
+    @Benchmark
+    public ObservableList<Person> fxCollectionsSort() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(shuffledPersons);
+        FXCollections.sort(persons, comparator);
+        return persons;
+    }
+
+    @Benchmark
+    public ObservableList<Person> sortedList() {
+        return new SortedList<>(shuffledPersons, comparator);
+    }
+
+    @Benchmark
+    public ObservableList<Person> sortedPersonList_sequential() {
+        sequentialList.setComparator(comparator);
+        return sequentialList.asUnmodifiableObservableList();
+    }
+
+    @Benchmark
+    public ObservableList<Person> sortedPersonList_parallel() {
+        parallelList.setComparator(comparator);
+        return parallelList.asUnmodifiableObservableList();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures adding persons to and finding persons in a {@code UniquePersonList} of different sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    private Person[] persons;
+    private UniquePersonList filledList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(personCount);
+        filledList = new UniquePersonList();
+        for (Person person : persons) {
+            filledList.add(person);
+        }
+        presentPerson = persons[personCount / 2];
+        absentPerson = SyntheticDataUtil.getSyntheticPerson(personCount);
+    }
+
+    /**
+     * Adds every person to an empty list, one at a time.
+     */
+    @Benchmark
+    public UniquePersonList add_allPersons() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    /**
+     * Adds a person to the full list and removes it again, leaving the list unchanged.
+     */
+    @Benchmark
+    public UniquePersonList add_oneMorePerson() {
+        filledList.add(absentPerson);
+        filledList.remove(absentPerson);
+        return filledList;
+    }
+
+    @Benchmark
+    public boolean contains_presentPerson() {
+        return filledList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean contains_absentPerson() {
+        return filledList.contains(absentPerson);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person.predicates;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures testing every person in an address book against the keywords of a {@code find} command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonContainsKeywordsPredicateBenchmark {
+
+    @Param({"10000"})
+    private int personCount;
+
+    @Param({"Alex", "alex yeoh", "80001234", "alexyeoh0@", "@example.com", "Alex 80001234 @example.com"})
+    private String keywords;
+
+    private Person[] persons;
+    private PersonContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(personCount);
+        predicate = new PersonContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+")));
+    }
+
+    /**
+     * Returns the number of persons matching the keywords.
+     */
+    @Benchmark
+    public int test_allPersons() {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.tag;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.PersonHasTagsPredicate;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Compares looking up the persons with a combination of tags in a {@code TagRegistry} against testing every person.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TagRegistryBenchmark {
+
+    @Param({"100000"})
+    private int personCount;
+
+    private Person[] persons;
+    private TagRegistry registry;
+    private PersonHasTagsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(personCount);
+        registry = new TagRegistry();
+        registry.setPersons(Arrays.asList(persons));
+        // Persons tagged friends, and colleagues or family, who are not neighbours
+        predicate = new PersonHasTagsPredicate(Set.of(new Tag("friends")),
+                Set.of(new Tag("colleagues"), new Tag("family")), Set.of(new Tag("neighbours")));
+    }
+
+    @Benchmark
+    public Set<Person> addMatches_registry() {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        predicate.addMatches(registry, matches);
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons that satisfy the predicate.
+     */
+    @Benchmark
+    public int test_allPersons() {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+}
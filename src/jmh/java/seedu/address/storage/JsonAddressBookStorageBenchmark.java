@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures saving an address book to and reading it back from a JSON data file in each storage format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000"})
+    private int personCount;
+
+    @Param({"PRETTY", "COMPACT", "GZIP"})
+    private StorageFormat format;
+
+    private Path folder;
+    private JsonAddressBookStorage storage;
+    private ReadOnlyAddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"), format);
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(personCount);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook roundTrip() throws IOException, DataLoadingException {
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import java.nio.file.Path;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum StorageFormat {
+    /** Indented JSON that is easy to read and edit by hand. */
+    PRETTY,
+    /** JSON without any whitespace between values. */
+    COMPACT,
+    /** Compact JSON compressed with gzip. */
+    GZIP;
+
+    public static final String GZIP_FILE_EXTENSION = ".gz";
+
+    /**
+     * Returns true if data in this format is indented.
+     */
+    public boolean isPretty() {
+        return this == PRETTY;
+    }
+
+    /**
+     * Returns true if data in this format is compressed with gzip.
+     */
+    public boolean isCompressed() {
+        return this == GZIP;
+    }
+
+    /**
+     * Returns the path the data file at {@code filePath} is saved to in this format.
+     * Compressed data is saved next to it with a {@code .gz} extension, e.g. {@code addressbook.json.gz}.
+     */
+    public Path resolveFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (!isCompressed() || fileName.endsWith(GZIP_FILE_EXTENSION)) {
+            return filePath;
+        }
+        return filePath.resolveSibling(fileName + GZIP_FILE_EXTENSION);
+    }
+}
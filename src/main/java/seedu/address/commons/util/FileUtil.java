@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Set;
 
 /**
  * Writes and reads files
@@ -80,4 +89,101 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, replacing any existing file in a single step.
+     * The content is first written to a temporary file in the same directory and forced to the disk,
+     * so a failure part way through leaves the existing file untouched. The new file keeps the permissions of the
+     * file it replaces, and the directory is forced to the disk after the move where the platform allows it.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param backup if not null, the existing file is moved here before it is replaced.
+     */
+    public static void writeToFileAtomically(Path file, String content, Path backup) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), backup);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, Path)}, but the content is written by
+     * {@code contentWriter} to a buffered stream, so it does not have to be held in memory all at once.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, Path backup)
+            throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+
+        try {
+            copyPermissions(absoluteFile, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            if (backup != null && isFileExists(absoluteFile)) {
+                moveReplacing(absoluteFile, backup);
+            }
+            moveReplacing(tempFile, absoluteFile);
+            forceDirectory(absoluteFile.getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system
+     * has POSIX permissions. Temporary files are otherwise only readable by their owner.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (!isFileExists(source)) {
+            return;
+        }
+        try {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(source);
+            Files.setPosixFilePermissions(target, permissions);
+        } catch (UnsupportedOperationException e) {
+            // e.g. on Windows, where files do not have POSIX permissions
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it is still there after a crash.
+     * Does nothing on platforms that cannot open a directory, such as Windows.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} atomically where the file system allows it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
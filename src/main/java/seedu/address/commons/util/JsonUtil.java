@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -111,6 +115,34 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a generator that writes pretty-printed JSON to {@code out}, one value at a time.
+     * Objects are serialized with the same settings as {@link #toJsonString(Object)}.
+     * Closing the generator does not close {@code out}.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        return createJsonGenerator(out, true);
+    }
+
+    /**
+     * Similar to {@link #createJsonGenerator(OutputStream)}, but the JSON is only indented if {@code isPretty}.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out, boolean isPretty) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isPretty ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
+    /**
+     * Returns a parser that reads JSON from {@code in}, one token at a time.
+     * Objects are deserialized with the same settings as {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
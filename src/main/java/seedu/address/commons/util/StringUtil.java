@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -25,11 +26,7 @@ public class StringUtil {
      */
     public static boolean containsWordIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
-        requireNonNull(word);
-
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        String preppedWord = requireSingleWord(word);
 
         String preppedSentence = sentence;
         String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
@@ -38,6 +35,45 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code word} without leading and trailing whitespace, after checking that it is a single word.
+     *
+     * @throws IllegalArgumentException if {@code word} is empty or has more than one word.
+     */
+    public static String requireSingleWord(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return preppedWord;
+    }
+
+    /**
+     * Returns {@code s} with the case of every character folded, so that two strings have the same result exactly
+     * when they are equal ignoring case, as in {@link String#equalsIgnoreCase(String)}.
+     */
+    public static String toCaseInsensitiveKey(String s) {
+        requireNonNull(s);
+        if (isAscii(s)) {
+            // Folding the case of ASCII characters only lower cases them, which reuses s if it is already lower case
+            return s.toLowerCase(Locale.ROOT);
+        }
+        StringBuilder key = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            key.append(Character.toLowerCase(Character.toUpperCase(s.charAt(i))));
+        }
+        return key.toString();
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the values in the model.
+ * Regular expressions are compiled once and then reused, as {@link String#matches(String)} compiles its regular
+ * expression on every call.
+ */
+public class ValidationUtil {
+
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the compiled form of {@code regex}, compiling it on first use.
+     */
+    public static Pattern getPattern(String regex) {
+        requireNonNull(regex);
+        return PATTERNS.computeIfAbsent(regex, Pattern::compile);
+    }
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code regex}.
+     * Gives the same result as {@code test.matches(regex)}.
+     */
+    public static boolean matches(String test, String regex) {
+        requireNonNull(test);
+        return getPattern(regex).matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} has at least {@code minLength} characters and consists of only the ASCII digits
+     * 0 to 9. Gives the same result as matching {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is non-empty and consists of only ASCII letters and digits.
+     * Gives the same result as matching {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -37,6 +38,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of projects */
     ObservableList<Project> getFilteredProjectList();
 
+    /**
+     * Returns the projects that {@code person} is a member of.
+     *
+     * @see seedu.address.model.Model#getProjectsForPerson(Person)
+     */
+    List<Project> getProjectsForPerson(Person person);
+
+    /**
+     * Returns the person with the given {@code id}, or null if there is no such person.
+     *
+     * @see seedu.address.model.Model#getPersonById(int)
+     */
+    Person getPersonById(int id);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -28,19 +29,25 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Version of an address book that has never been saved, lower than any version of a real address book. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is taken to be the one in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -51,11 +58,19 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long version = model.getAddressBookVersion();
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (version != savedVersion) {
+                storage.saveAddressBook(model.getAddressBook());
+                savedVersion = version;
+            }
+            // A save written in the background may have failed since the last command
+            storage.checkForFailedSave();
         } catch (AccessDeniedException e) {
+            savedVersion = UNSAVED_VERSION;
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            savedVersion = UNSAVED_VERSION;
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
@@ -82,6 +97,16 @@ public class LogicManager implements Logic {
         return model.getFilteredProjectList();
     }
 
+    @Override
+    public List<Project> getProjectsForPerson(Person person) {
+        return model.getProjectsForPerson(person);
+    }
+
+    @Override
+    public Person getPersonById(int id) {
+        return model.getPersonById(id);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
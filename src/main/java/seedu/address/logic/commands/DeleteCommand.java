@@ -112,29 +112,20 @@ public class DeleteCommand extends Command {
                 .map(lastShownList::get)
                 .collect(Collectors.toList());
         for (Person person : personsToDelete) {
-            for (Project project : model.getFilteredProjectList()) {
-                Set<Person> members = project.getMembers();
-                if (members.contains(person)) {
-                    int newCount = deleteCountMap.getOrDefault(project, 0) + 1;
-                    deleteCountMap.put(project, newCount);
-
-                    if (newCount == members.size()) {
-                        throw new CommandException(String.format(
-                                Messages.MESSAGE_PROJECT_MUST_HAVE_MEMBERS, project.getName()
-                        ));
-                    }
+            for (Project project : model.getProjectsForPerson(person)) {
+                int newCount = deleteCountMap.getOrDefault(project, 0) + 1;
+                deleteCountMap.put(project, newCount);
+
+                if (newCount == project.getMemberCount()) {
+                    throw new CommandException(String.format(
+                            Messages.MESSAGE_PROJECT_MUST_HAVE_MEMBERS, project.getName()
+                    ));
                 }
             }
         }
 
-        // Delete by descending index so earlier deletions don't shift later indexes
-        List<Integer> indexesDesc = new ArrayList<>(indexesAsc);
-        Collections.reverse(indexesDesc); // now descending
-        for (Integer idx : indexesDesc) {
-            Person p = lastShownList.get(idx);
-
-            model.deletePerson(p);
-        }
+        // Delete all at once, so the displayed lists change only once
+        model.deletePersons(personsToDelete);
 
         // Build final message showing names in ascending/display order
         String resultMessage = String.join(",\n", deletedNamesForMessage);
@@ -37,7 +37,6 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.Priority;
 import seedu.address.model.person.Socials;
 import seedu.address.model.person.YouTube;
-import seedu.address.model.project.Project;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -103,17 +102,6 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
 
-        if (!personToEdit.equals(editedPerson)) {
-            List<Project> projectList = model.getFilteredProjectList();
-
-            for (Project project : projectList) {
-                if (project.getMembers().contains(personToEdit)) {
-                    Project updatedProject = project.updateMember(personToEdit, editedPerson);
-                    model.setProject(project, updatedProject);
-                }
-            }
-        }
-
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
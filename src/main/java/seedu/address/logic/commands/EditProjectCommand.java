@@ -9,12 +9,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import java.time.LocalDate;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
 import seedu.address.model.priority.Priority;
 import seedu.address.model.project.Project;
 
@@ -96,9 +94,7 @@ public class EditProjectCommand extends Command {
         String updatedName = editProjectDescriptor.getName().orElse(projectToEdit.getName());
         LocalDate updatedDeadline = editProjectDescriptor.getDeadline().orElse(projectToEdit.getDeadline());
         Priority updatedPriority = editProjectDescriptor.getPriority().orElse(projectToEdit.getPriority());
-        Set<Person> members = projectToEdit.getMembers();
-
-        return new Project(updatedName, updatedPriority, updatedDeadline, members);
+        return projectToEdit.withDetails(updatedName, updatedPriority, updatedDeadline);
     }
 
     /**
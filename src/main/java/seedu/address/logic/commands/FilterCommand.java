@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ANY_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOT_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.predicates.PersonHasTagsPredicate;
+
+/**
+ * Lists all persons in address book that have all of some tags, at least one of some other tags, and none of a third
+ * set of tags.
+ * Tag matching is case sensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists all persons that have every tag given with " + PREFIX_TAG + ", at least one of the tags given "
+            + "with " + PREFIX_ANY_TAG + " and none of the tags given with " + PREFIX_NOT_TAG + ".\n"
+            + "Parameters: "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_ANY_TAG + "TAG]... "
+            + "[" + PREFIX_NOT_TAG + "TAG]... (at least one tag must be given)\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "colleagues "
+            + PREFIX_ANY_TAG + "websiteRedesign "
+            + PREFIX_ANY_TAG + "appLaunch "
+            + PREFIX_NOT_TAG + "intern";
+
+    private final PersonHasTagsPredicate predicate;
+
+    public FilterCommand(PersonHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+
+/**
+ * Finds and lists all persons in address book with a word equal to, starting with, or a few typos away from any of
+ * the argument keywords, best match first.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzyfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds all persons with a name, email, tag or social media handle word that is equal to, starts with, "
+            + "or is a few typos away from any of the specified keywords (case-insensitive) "
+            + "and displays them as a list with index numbers, best match first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alx frends";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FuzzyFindCommand to find the persons matching any of {@code keywords}.
+     */
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.searchPersons(keywords);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return keywords.equals(otherFuzzyFindCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -5,9 +5,7 @@ import static seedu.address.logic.Messages.MESSAGE_PROJECT_NOT_FOUND_BY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -70,7 +68,7 @@ public class JoinProjectCommand extends Command {
         }
 
         List<Person> personList = model.getFilteredPersonList();
-        Set<Person> updatedMembers = new HashSet<>(project.getMembers());
+        Project updatedProject = project;
 
         StringBuilder addedNamesBuilder = new StringBuilder();
 
@@ -81,8 +79,8 @@ public class JoinProjectCommand extends Command {
 
             Person personToAdd = personList.get(index.getZeroBased());
 
-            if (!updatedMembers.contains(personToAdd)) {
-                updatedMembers.add(personToAdd);
+            if (!updatedProject.hasMember(personToAdd)) {
+                updatedProject = updatedProject.withMember(personToAdd);
 
                 if (addedNamesBuilder.length() > 0) {
                     addedNamesBuilder.append(", ");
@@ -91,13 +89,6 @@ public class JoinProjectCommand extends Command {
             }
         }
 
-        Project updatedProject = new Project(
-                project.getName(),
-                project.getPriority(),
-                project.getDeadline(),
-                updatedMembers
-        );
-
         model.setProject(project, updatedProject);
         String addedNames = addedNamesBuilder.toString();
         if (addedNames.isEmpty()) {
@@ -4,9 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -71,7 +69,7 @@ public class LeaveProjectCommand extends Command {
         }
 
         List<Person> personList = model.getFilteredPersonList();
-        Set<Person> updatedMembers = new HashSet<>(project.getMembers());
+        Project updatedProject = project;
 
         for (Index index : memberIndexes) {
             if (index.getZeroBased() >= personList.size()) {
@@ -80,27 +78,20 @@ public class LeaveProjectCommand extends Command {
 
             Person personToRemove = personList.get(index.getZeroBased());
 
-            if (!updatedMembers.contains(personToRemove)) {
+            if (!updatedProject.hasMember(personToRemove)) {
                 throw new CommandException(String.format(
                         MESSAGE_MEMBER_NOT_IN_PROJECT,
                         personToRemove.getName()
                 ));
             }
 
-            updatedMembers.remove(personToRemove);
+            updatedProject = updatedProject.withoutMember(personToRemove);
         }
 
-        if (updatedMembers.isEmpty()) {
+        if (updatedProject.getMemberCount() == 0) {
             throw new CommandException(String.format(Messages.MESSAGE_PROJECT_MUST_HAVE_MEMBERS, project.getName()));
         }
 
-        Project updatedProject = new Project(
-                project.getName(),
-                project.getPriority(),
-                project.getDeadline(),
-                updatedMembers
-        );
-
         model.setProject(project, updatedProject);
         String removedNames = memberIndexes.stream()
                 .map(i -> personList.get(i.getZeroBased()).getName().toString())
@@ -2,8 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -40,13 +38,9 @@ public class ShowProjectDetailsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Project> projectList = model.getFilteredProjectList();
 
         // Find project by name (case-insensitive)
-        Project targetProject = projectList.stream()
-                .filter(p -> p.getName() != null && p.getName().equalsIgnoreCase(projectName))
-                .findFirst()
-                .orElse(null);
+        Project targetProject = model.getProjectByName(projectName);
 
         if (targetProject == null) {
             throw new CommandException(String.format(Messages.MESSAGE_PROJECT_NOT_FOUND_BY_NAME, projectName));
@@ -1,18 +1,25 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortField;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.SortKey;
 
 /**
  * Sorts Person objects present in the current address book by order specified by user.
@@ -23,64 +30,87 @@ public class SortPersonsCommand extends Command {
     public static final String COMMAND_WORD = "sort";
     public static final String MESSAGE_SUCCESS = "Address book has been sorted.";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sorts the displayed persons by exactly one attribute.\n"
+            + ": Sorts the displayed persons by one or more attributes, each in its own direction. Persons are "
+            + "sorted by the first attribute, then the persons that it does not tell apart by the next one, and "
+            + "finally by name. The order is kept as persons are added or edited, while the list is filtered, and "
+            + "the next time IndiDex is started.\n"
             + "Parameters:\n"
             + "  " + PREFIX_NAME + "   - Name (case-insensitive)\n"
             + "  " + PREFIX_EMAIL + "   - Email\n"
             + "  " + PREFIX_PHONE + "   - Phone\n"
             + "  " + PREFIX_PRIORITY + "  - Priority\n"
             + "  " + PREFIX_ADDRESS + "   - Address\n"
-            + "Direction (optional): asc | desc (default: asc)\n"
-            + "Format: " + COMMAND_WORD + " <attribute-prefix>[asc|desc]\n"
+            + "Direction (optional): asc | desc (default: asc, or desc for priority)\n"
+            + "Format: " + COMMAND_WORD + " <attribute-prefix>[asc|desc] [<attribute-prefix>[asc|desc]]...\n"
             + "Examples:\n"
             + "  " + COMMAND_WORD + " " + PREFIX_NAME + "asc\n"
             + "  " + COMMAND_WORD + " " + PREFIX_PRIORITY + "desc\n"
-            + "  " + COMMAND_WORD + " " + PREFIX_ADDRESS + "\n";
+            + "  " + COMMAND_WORD + " " + PREFIX_PRIORITY + "desc " + PREFIX_ADDRESS + " " + PREFIX_NAME + "\n";
+
+    private final List<Prefix> attributes;
+    private final List<Boolean> isAscending;
 
-    private final Prefix attribute;
-    private final boolean ascending;
     /**
      *  Creates a SortPersonsCommand object from a Prefix and boolean.
      */
     public SortPersonsCommand(Prefix attr, boolean ascending) {
-        this.attribute = attr;
-        this.ascending = ascending;
+        this(List.of(attr), List.of(ascending));
+    }
+
+    /**
+     * Creates a SortPersonsCommand that sorts by each of {@code attributes} in turn, ascending where the
+     * corresponding element of {@code isAscending} is true.
+     */
+    public SortPersonsCommand(List<Prefix> attributes, List<Boolean> isAscending) {
+        requireAllNonNull(attributes, isAscending);
+        checkArgument(!attributes.isEmpty() && attributes.size() == isAscending.size());
+        this.attributes = List.copyOf(attributes);
+        this.isAscending = List.copyOf(isAscending);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        String test = PREFIX_ADDRESS.getPrefix();
-        Comparator<Person> cmp;
+        model.setPersonSortOrder(getSortOrder());
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    /**
+     * Returns the order of persons specified by this command.
+     *
+     * @throws CommandException if an attribute cannot be sorted by.
+     */
+    PersonSortOrder getSortOrder() throws CommandException {
+        List<SortKey> keys = new ArrayList<>();
+        for (int i = 0; i < attributes.size(); i++) {
+            keys.add(new SortKey(getField(attributes.get(i)), isAscending.get(i)));
+        }
+        return new PersonSortOrder(keys);
+    }
+
+    /**
+     * Returns the order of persons specified by this command, as a single comparator.
+     *
+     * @throws CommandException if an attribute cannot be sorted by.
+     */
+    Comparator<Person> getComparator() throws CommandException {
+        return getSortOrder().getComparator();
+    }
+
+    private static PersonSortField getField(Prefix attribute) throws CommandException {
         if (attribute.equals(PREFIX_NAME)) {
-            cmp = Comparator.comparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER);
+            return PersonSortField.NAME;
         } else if (attribute.equals(PREFIX_EMAIL)) {
-            cmp = Comparator.comparing(p -> p.getEmail().toString(), String.CASE_INSENSITIVE_ORDER);
+            return PersonSortField.EMAIL;
         } else if (attribute.equals(PREFIX_PHONE)) {
-            cmp = Comparator.comparing(p -> p.getPhone().toString(), String.CASE_INSENSITIVE_ORDER);
+            return PersonSortField.PHONE;
         } else if (attribute.equals(PREFIX_ADDRESS)) {
-            cmp = Comparator.comparing(p -> p.getAddress().toString(), String.CASE_INSENSITIVE_ORDER);
+            return PersonSortField.ADDRESS;
         } else if (attribute.equals(PREFIX_PRIORITY)) {
-            cmp = Comparator.comparing(p -> priorityRank(p.getPriority().toString()));
+            return PersonSortField.PRIORITY;
         } else {
             throw new CommandException("Unknown sort prefix: " + attribute);
         }
-        if (!ascending) {
-            cmp = cmp.reversed();
-        }
-        // tiebreaking by name
-        cmp = cmp.thenComparing(p -> p.getName().fullName, String.CASE_INSENSITIVE_ORDER);
-        model.sortPersons(cmp);
-        return new CommandResult(MESSAGE_SUCCESS);
-    }
-
-    static int priorityRank(String s) {
-        return switch (s.toUpperCase()) {
-        case "LOW" -> 0;
-        case "MEDIUM" -> 1;
-        case "HIGH" -> 2;
-        default -> -1;
-        };
     }
 
     @Override
@@ -92,6 +122,6 @@ public class SortPersonsCommand extends Command {
             return false;
         }
         SortPersonsCommand o = (SortPersonsCommand) other;
-        return attribute.equals(o.attribute) && ascending == o.ascending;
+        return attributes.equals(o.attributes) && isAscending.equals(o.isAscending);
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -16,7 +17,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.project.Project;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -67,34 +67,18 @@ public class TagCommand extends Command {
             }
         }
 
+        List<Person> personsToTag = new ArrayList<>();
+        List<Person> taggedPersons = new ArrayList<>();
         for (Index index : targetIndexes) {
             Person personToTag = lastShownList.get(index.getZeroBased());
             Set<Tag> updatedTags = new HashSet<>(personToTag.getTags());
             updatedTags.addAll(tagsToAdd);
 
-            Person updatedPerson = new Person(
-                    personToTag.getName(),
-                    personToTag.getPhone(),
-                    personToTag.getEmail(),
-                    personToTag.getSocials(),
-                    personToTag.getAddress(),
-                    personToTag.getPriority(),
-                    updatedTags
-            );
-
-            if (!personToTag.equals(updatedPerson)) {
-                List<Project> projectList = model.getFilteredProjectList();
-
-                for (Project project : projectList) {
-                    if (project.getMembers().contains(personToTag)) {
-                        Project updatedProject = project.updateMember(personToTag, updatedPerson);
-                        model.setProject(project, updatedProject);
-                    }
-                }
-            }
-
-            model.setPerson(personToTag, updatedPerson);
+            personsToTag.add(personToTag);
+            taggedPersons.add(personToTag.withTags(updatedTags));
         }
+        // Tag all at once, so the displayed list changes only once
+        model.setPersons(personsToTag, taggedPersons);
 
         logger.info("Successfully executed TagCommand for tags: " + tagsToAdd);
 
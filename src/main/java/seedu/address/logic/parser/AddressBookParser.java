@@ -18,7 +18,9 @@ import seedu.address.logic.commands.DeleteProjectCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditProjectCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.JoinProjectCommand;
 import seedu.address.logic.commands.LeaveProjectCommand;
@@ -78,6 +80,12 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FuzzyFindCommand.COMMAND_WORD:
+            return new FuzzyFindCommandParser().parse(arguments);
+
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
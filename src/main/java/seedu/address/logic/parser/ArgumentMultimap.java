@@ -1,7 +1,7 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,11 +16,12 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Keys are kept in the order they were first inserted in.
  */
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<String>> argMultimap = new LinkedHashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -55,6 +56,17 @@ public class ArgumentMultimap {
         return new ArrayList<>(argMultimap.get(prefix));
     }
 
+    /**
+     * Returns the prefixes that have values, other than the preamble, in the order they were first inserted in.
+     * For a map created by {@link ArgumentTokenizer}, this is the order the prefixes first appear in.
+     */
+    public List<Prefix> getPrefixesInOrder() {
+        Prefix preamble = new Prefix("");
+        return argMultimap.keySet().stream()
+                .filter(prefix -> !prefix.equals(preamble))
+                .toList();
+    }
+
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
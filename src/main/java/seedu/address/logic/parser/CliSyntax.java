@@ -18,4 +18,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_PRIORITY = new Prefix("pr/");
     public static final Prefix PREFIX_DEADLINE = new Prefix("d/");
     public static final Prefix PREFIX_MEMBER = new Prefix("m/");
+    public static final Prefix PREFIX_ANY_TAG = new Prefix("any/");
+    public static final Prefix PREFIX_NOT_TAG = new Prefix("not/");
 }
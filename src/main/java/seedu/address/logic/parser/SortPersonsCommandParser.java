@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -28,33 +29,24 @@ public class SortPersonsCommandParser implements Parser<SortPersonsCommand> {
         Prefix[] attrArray = attributes.toArray(new Prefix[0]);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, attrArray);
         argMultimap.verifyNoDuplicatePrefixesFor(attrArray);
-        List<Prefix> present = attributes.stream()
-                .filter(p -> hasPrefix(argMultimap, p))
+        // The attributes take precedence in the order they are given in
+        List<Prefix> present = argMultimap.getPrefixesInOrder().stream()
+                .filter(attributes::contains)
                 .toList();
-        if (present.size() != 1) {
+        if (present.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPersonsCommand.MESSAGE_USAGE));
         }
-        String dirToken = attributes.stream()
-                .map(argMultimap::getValue)
-                .flatMap(java.util.Optional::stream)
-                .findFirst()
-                .orElse("");
 
-        boolean ascending = dirToken.isEmpty() || dirToken.equalsIgnoreCase("asc");
-        if (!dirToken.isEmpty() && !VALID_DIRECTIONS.contains(dirToken.toLowerCase())) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPersonsCommand.MESSAGE_USAGE));
-        }
-
-        Prefix attr = present.get(0);
-        if (dirToken.isEmpty() && attr.equals(PREFIX_PRIORITY)) {
-            ascending = false;
+        List<Boolean> isAscending = new ArrayList<>();
+        for (Prefix attr : present) {
+            String dirToken = argMultimap.getValue(attr).orElse("");
+            if (!dirToken.isEmpty() && !VALID_DIRECTIONS.contains(dirToken.toLowerCase())) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPersonsCommand.MESSAGE_USAGE));
+            }
+            boolean ascending = dirToken.isEmpty() ? !attr.equals(PREFIX_PRIORITY) : dirToken.equalsIgnoreCase("asc");
+            isAscending.add(ascending);
         }
-        return new SortPersonsCommand(attr, ascending);
-    }
-    /**
-     *  Treat a prefix as 'present' even if it has an empty value.
-     */
-    private boolean hasPrefix(ArgumentMultimap map, Prefix p) {
-        return !map.getAllValues(p).isEmpty();
+        return new SortPersonsCommand(present, isAscending);
     }
 }
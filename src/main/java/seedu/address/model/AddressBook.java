@@ -1,25 +1,61 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonTokenIndex;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.UniqueProjectList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Assigns every person a numeric id that stays the same when the person is edited. Projects refer to their
+ * members by these ids, and a reverse index from id to projects keeps membership lookups and cascades on
+ * person deletions limited to the affected projects.
+ * Persons also share a single {@code Tag} instance per tag name, held by a {@link TagRegistry} that looks up the
+ * persons with a tag.
+ * Every modification gives the address book a new version, and the recent ones are kept as a list of changes so that
+ * storage can save just what changed.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The number of recent changes that are kept at least. */
+    private static final int MAX_RECENT_CHANGES = 100;
+
+    /** The last version given to any address book, so that versions are never reused. */
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniquePersonList persons;
     private final UniqueProjectList projects;
+    private final Map<Integer, Person> personsById = new HashMap<>();
+    private final Map<Integer, Set<Project>> projectsByMember = new HashMap<>();
+    /** The position of each project in the order of the project list, kept by the project that replaces it. */
+    private final Map<Project, Long> projectPositions = new IdentityHashMap<>();
+    private long nextProjectPosition;
+    private int nextPersonId = Person.UNASSIGNED_ID + 1;
+    private long version = lastVersion.incrementAndGet();
+    private final List<AddressBookChange> recentChanges = new ArrayList<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -48,26 +84,44 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Persons keep the ids they already have, as long as no earlier person in the list has the same id,
+     * so that projects copied along with them still refer to the right members.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
-    }
+        int nextId = Person.UNASSIGNED_ID + 1;
+        for (Person person : persons) {
+            nextId = Math.max(nextId, person.getId() + 1);
+        }
 
-    /**
-     * Sorts the person list with {@code comparator}.
-     */
-    public void sortPersons(Comparator<Person> comparator) {
-        persons.sortPersons(comparator);
+        Map<Integer, Person> byId = new HashMap<>();
+        List<Person> withIds = new ArrayList<>(persons.size());
+        Map<Tag, Tag> tagInstances = new HashMap<>();
+        for (Person person : persons) {
+            Person withId = person.hasId() && !byId.containsKey(person.getId()) ? person : person.withId(nextId++);
+            withId = TagRegistry.intern(withId, tagInstances);
+            byId.put(withId.getId(), withId);
+            withIds.add(withId);
+        }
+
+        this.persons.setPersons(withIds);
+        personsById.clear();
+        personsById.putAll(byId);
+        nextPersonId = nextId;
+        markModified();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * This address book then has the same version and recent changes as {@code newData}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
         setProjects(newData.getProjectList());
+        version = newData.getVersion();
+        recentChanges.clear();
+        recentChanges.addAll(newData.getRecentChanges());
     }
 
     //// person-level operations
@@ -83,20 +137,113 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The person keeps its id if it has one that is not in use, and is assigned a new id otherwise.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        requireNonNull(p);
+        boolean keepsId = p.hasId() && !personsById.containsKey(p.getId());
+        Person withId = getTagRegistry().intern(keepsId ? p : p.withId(nextPersonId));
+
+        persons.add(withId);
+        personsById.put(withId.getId(), withId);
+        nextPersonId = Math.max(nextPersonId, withId.getId() + 1);
+        recordPutPerson(null, withId);
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * {@code editedPerson} takes over the id of {@code target}, so projects need no changes.
      */
     public void setPerson(Person target, Person editedPerson) {
+        requireNonNull(target);
         requireNonNull(editedPerson);
+        Person stored = persons.getPersonByName(target.getName());
+        Person withId = stored == null || editedPerson.getId() == stored.getId()
+                ? editedPerson
+                : editedPerson.withId(stored.getId());
+        withId = getTagRegistry().intern(withId);
+
+        persons.setPerson(target, withId);
+        personsById.put(withId.getId(), withId);
+        recordPutPerson(stored.getName().fullName, withId);
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change to the person list.
+     * Each edited person takes over the id of its target, as in {@link #setPerson(Person, Person)}.
+     * Renaming several persons at once is not recorded as a list of changes, as one rename could take the name that
+     * another gives up.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Every target must have an edited person");
+        List<Person> storedPersons = new ArrayList<>(targets.size());
+        List<Person> withIds = new ArrayList<>(editedPersons.size());
+        boolean hasRename = false;
+        // Tags that no person had before the change are shared between the edited persons too
+        Map<Tag, Tag> newTagInstances = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Person stored = persons.getPersonByName(targets.get(i).getName());
+            Person editedPerson = editedPersons.get(i);
+            Person withId = stored == null || editedPerson.getId() == stored.getId()
+                    ? editedPerson
+                    : editedPerson.withId(stored.getId());
+            storedPersons.add(stored);
+            withIds.add(TagRegistry.intern(getTagRegistry().intern(withId), newTagInstances));
+            hasRename |= !targets.get(i).isSamePerson(editedPerson);
+        }
+
+        persons.setPersons(targets, withIds);
+        for (Person withId : withIds) {
+            personsById.put(withId.getId(), withId);
+        }
+        if (hasRename && targets.size() > 1) {
+            markModified();
+            return;
+        }
+        for (int i = 0; i < withIds.size(); i++) {
+            recordPutPerson(storedPersons.get(i).getName().fullName, withIds.get(i));
+        }
+    }
+
+    /**
+     * Returns the person whose name equals {@code name}, or null if there is no such person.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.getPersonByName(name);
+    }
 
-        persons.setPerson(target, editedPerson);
+    /**
+     * Returns the person with the given {@code id}, or null if there is no such person.
+     */
+    public Person getPersonById(int id) {
+        return personsById.get(id);
+    }
+
+    /**
+     * Returns the index used to search the persons in this address book.
+     */
+    public PersonTokenIndex getPersonTokenIndex() {
+        return persons.getTokenIndex();
+    }
+
+    /**
+     * Returns the index used to search the persons in this address book by the start of words or with typos.
+     */
+    public PersonSearchIndex getPersonSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns the registry of the tags of the persons in this address book.
+     */
+    public TagRegistry getTagRegistry() {
+        return persons.getTagRegistry();
     }
 
     /**
@@ -105,6 +252,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setProjects(List<Project> projects) {
         this.projects.setProjects(projects);
+
+        projectsByMember.clear();
+        projectPositions.clear();
+        for (Project project : this.projects) {
+            indexMembers(project);
+        }
+        markModified();
     }
 
     /**
@@ -112,7 +266,55 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        requireNonNull(key);
+        Person stored = persons.getPersonByName(key.getName());
+
         persons.remove(key);
+        personsById.remove(stored.getId());
+        recordRemovePerson(stored.getName().fullName);
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook}, and from the projects they are members of.
+     * The person list changes once, and the project list at most once, however many persons are removed.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        requireAllNonNull(keys);
+        List<Person> storedPersons = new ArrayList<>(keys.size());
+        for (Person key : keys) {
+            storedPersons.add(persons.getPersonByName(key.getName()));
+        }
+
+        persons.removeAll(keys);
+        Map<Project, Project> updatedProjects = new IdentityHashMap<>();
+        for (Person stored : storedPersons) {
+            personsById.remove(stored.getId());
+            for (Project project : projectsByMember.getOrDefault(stored.getId(), Collections.emptySet())) {
+                updatedProjects.put(project, updatedProjects.getOrDefault(project, project).withoutMember(stored));
+            }
+            recordRemovePerson(stored.getName().fullName);
+        }
+        if (updatedProjects.isEmpty()) {
+            return;
+        }
+
+        List<Project> replacedProjects = new ArrayList<>();
+        List<Project> changedProjects = new ArrayList<>();
+        for (Project project : projects) {
+            Project updated = updatedProjects.get(project);
+            if (updated == null) {
+                replacedProjects.add(project);
+                continue;
+            }
+            replacedProjects.add(updated);
+            changedProjects.add(project);
+            indexMembers(updated, unindexMembers(project));
+        }
+        projects.setProjects(replacedProjects);
+        for (Project project : changedProjects) {
+            recordPutProject(project.getName(), updatedProjects.get(project));
+        }
     }
 
     //// project-level operations
@@ -127,22 +329,164 @@ public class AddressBook implements ReadOnlyAddressBook {
         return projects.contains(project);
     }
 
+    /**
+     * Returns the project whose name equals {@code name} ignoring case, or null if there is no such project.
+     */
+    public Project getProjectByName(String name) {
+        requireNonNull(name);
+        return projects.getProjectByName(name);
+    }
+
     public void addProject(Project pr) {
         projects.add(pr);
+        indexMembers(pr);
+        recordPutProject(null, pr);
     }
 
+    /**
+     * Removes {@code pr} from this {@code AddressBook}.
+     * {@code pr} must exist in the address book.
+     */
     public void removeProject(Project pr) {
+        requireNonNull(pr);
+        Project stored = projects.getProjectByName(pr.getName());
+
         projects.remove(pr);
+        unindexMembers(stored);
+        recordRemoveProject(stored.getName());
     }
 
+    /**
+     * Replaces the given project {@code target} in the list with {@code editedProject}.
+     * {@code target} must exist in the address book.
+     */
     public void setProject(Project target, Project editedProject) {
+        requireNonNull(target);
         requireNonNull(editedProject);
+        Project stored = projects.getProjectByName(target.getName());
 
         projects.setProject(target, editedProject);
+        indexMembers(editedProject, unindexMembers(stored));
+        recordPutProject(stored.getName(), editedProject);
+    }
+
+    /**
+     * Returns the projects that {@code person} is a member of, in the order of the project list.
+     */
+    public List<Project> getProjectsForPerson(Person person) {
+        requireNonNull(person);
+        List<Project> memberProjects =
+                new ArrayList<>(projectsByMember.getOrDefault(person.getId(), Collections.emptySet()));
+        memberProjects.sort(Comparator.comparingLong(projectPositions::get));
+        return memberProjects;
+    }
+
+    private void indexMembers(Project project) {
+        indexMembers(project, nextProjectPosition++);
+    }
+
+    /**
+     * Indexes the members of {@code project}, which is at {@code position} in the order of the project list.
+     */
+    private void indexMembers(Project project, long position) {
+        projectPositions.put(project, position);
+        for (int memberId : project.getMemberIds()) {
+            projectsByMember.computeIfAbsent(memberId, unused ->
+                    Collections.newSetFromMap(new IdentityHashMap<>())).add(project);
+        }
+    }
+
+    /**
+     * Removes the members of {@code project} from the index, and returns its position in the order of the project
+     * list.
+     */
+    private long unindexMembers(Project project) {
+        for (int memberId : project.getMemberIds()) {
+            Set<Project> memberProjects = projectsByMember.get(memberId);
+            if (memberProjects != null) {
+                memberProjects.remove(project);
+                if (memberProjects.isEmpty()) {
+                    projectsByMember.remove(memberId);
+                }
+            }
+        }
+        return projectPositions.remove(project);
     }
 
     //// util methods
 
+    /**
+     * {@inheritDoc}
+     * Versions increase with every modification, and are never shared with another address book unless it is a
+     * copy of this one.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * {@inheritDoc}
+     * At least the last {@value #MAX_RECENT_CHANGES} changes are kept. The returned list is a read-only view that
+     * changes along with this address book.
+     */
+    @Override
+    public List<AddressBookChange> getRecentChanges() {
+        return Collections.unmodifiableList(recentChanges);
+    }
+
+    /**
+     * Gives this address book a new version for a modification that is not recorded as a change.
+     */
+    private void markModified() {
+        version = lastVersion.incrementAndGet();
+        recentChanges.clear();
+    }
+
+    private void recordPutPerson(String target, Person person) {
+        long previousVersion = advanceVersion();
+        addRecentChange(AddressBookChange.putPerson(previousVersion, version, target, person));
+    }
+
+    private void recordRemovePerson(String target) {
+        long previousVersion = advanceVersion();
+        addRecentChange(AddressBookChange.removePerson(previousVersion, version, target));
+    }
+
+    private void recordPutProject(String target, Project project) {
+        List<Person> members = new ArrayList<>();
+        for (int memberId : project.getMemberIds()) {
+            Person member = personsById.get(memberId);
+            if (member != null) {
+                members.add(member);
+            }
+        }
+        long previousVersion = advanceVersion();
+        addRecentChange(AddressBookChange.putProject(previousVersion, version, target, project, members));
+    }
+
+    private void recordRemoveProject(String target) {
+        long previousVersion = advanceVersion();
+        addRecentChange(AddressBookChange.removeProject(previousVersion, version, target));
+    }
+
+    /**
+     * Gives this address book a new version and returns the previous one.
+     */
+    private long advanceVersion() {
+        long previousVersion = version;
+        version = lastVersion.incrementAndGet();
+        return previousVersion;
+    }
+
+    private void addRecentChange(AddressBookChange change) {
+        recentChanges.add(change);
+        // Drops the oldest changes in bulk, so that each change is only moved a constant number of times
+        if (recentChanges.size() > 2 * MAX_RECENT_CHANGES) {
+            recentChanges.subList(0, recentChanges.size() - MAX_RECENT_CHANGES).clear();
+        }
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -183,7 +527,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeMemberFromAllProjects(Person member) {
         requireNonNull(member);
-        projects.removeMemberFromAll(member);
+
+        for (Project project : getProjectsForPerson(member)) {
+            setProject(project, project.withoutMember(member));
+        }
     }
 
     @Override
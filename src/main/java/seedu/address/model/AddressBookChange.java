@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.project.Project;
+
+/**
+ * A single change made to an address book: a person or project that was added, replaced or removed.
+ * Each change takes the address book from one version to the next, see {@link ReadOnlyAddressBook#getVersion()}.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of change that are recorded.
+     */
+    public enum Type {
+        PUT_PERSON, REMOVE_PERSON, PUT_PROJECT, REMOVE_PROJECT
+    }
+
+    private final long previousVersion;
+    private final long version;
+    private final Type type;
+    /** Name of the person or project that was replaced or removed, or null if one was added. */
+    private final String target;
+    private final Person person;
+    private final Project project;
+    /** The members of {@code project} at the time of the change. */
+    private final List<Person> members;
+
+    private AddressBookChange(long previousVersion, long version, Type type, String target, Person person,
+            Project project, List<Person> members) {
+        this.previousVersion = previousVersion;
+        this.version = version;
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.project = project;
+        this.members = members;
+    }
+
+    /**
+     * Returns a change that adds {@code person}, or replaces the person named {@code target} with it if
+     * {@code target} is not null.
+     */
+    static AddressBookChange putPerson(long previousVersion, long version, String target, Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(previousVersion, version, Type.PUT_PERSON, target, person, null, List.of());
+    }
+
+    /**
+     * Returns a change that removes the person named {@code target}.
+     */
+    static AddressBookChange removePerson(long previousVersion, long version, String target) {
+        requireNonNull(target);
+        return new AddressBookChange(previousVersion, version, Type.REMOVE_PERSON, target, null, null, List.of());
+    }
+
+    /**
+     * Returns a change that adds {@code project}, whose members are {@code members}, or replaces the project
+     * named {@code target} with it if {@code target} is not null.
+     */
+    static AddressBookChange putProject(long previousVersion, long version, String target, Project project,
+            List<Person> members) {
+        requireNonNull(project);
+        return new AddressBookChange(previousVersion, version, Type.PUT_PROJECT, target, null, project,
+                List.copyOf(members));
+    }
+
+    /**
+     * Returns a change that removes the project named {@code target}.
+     */
+    static AddressBookChange removeProject(long previousVersion, long version, String target) {
+        requireNonNull(target);
+        return new AddressBookChange(previousVersion, version, Type.REMOVE_PROJECT, target, null, null, List.of());
+    }
+
+    /**
+     * Returns the version of the address book before this change.
+     */
+    public long getPreviousVersion() {
+        return previousVersion;
+    }
+
+    /**
+     * Returns the version of the address book after this change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of the person or project that was replaced or removed, or null if one was added.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person that was put in, or null if this change is not a {@code PUT_PERSON}.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the project that was put in, or null if this change is not a {@code PUT_PROJECT}.
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * Returns the members of the project that was put in, as they were at the time of the change.
+     */
+    public List<Person> getMembers() {
+        return members;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("type", type)
+                .add("target", target)
+                .add("person", person)
+                .add("project", project)
+                .toString();
+    }
+}
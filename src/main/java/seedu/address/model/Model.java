@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
 import seedu.address.model.project.Project;
 
 /**
@@ -57,6 +59,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that increases every time the address book is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -82,10 +89,32 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Sorts the PersonList using {@code comparator}.
+     * Deletes all of {@code targets}, and removes them from the projects they are members of.
+     * Every person in {@code targets} must exist in the address book.
+     * Views of the person and project lists are notified once, however many persons are deleted.
+     */
+    void deletePersons(List<Person> targets);
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}.
+     * Every person in {@code targets} must exist in the address book, and no two persons may have the same identity
+     * afterwards.
+     * Views of the person list are notified once, however many persons are replaced.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Lists persons in the order of {@code comparator}, including persons added or edited later.
      */
     void sortPersons(Comparator<Person> comparator);
 
+    /**
+     * Lists persons in {@code order}, as in {@link #sortPersons(Comparator)}, and keeps {@code order} in the user
+     * prefs so that persons are listed in it again the next time the app starts.
+     * {@code order} must sort persons.
+     */
+    void setPersonSortOrder(PersonSortOrder order);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -95,6 +124,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons with a word equal to, starting with, or a few
+     * typos away from any of {@code keywords}, and orders them from the best match to the worst.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void searchPersons(List<String> keywords);
+
     /**
      * Returns true if a project with the same identity as {@code project} exists in the address book.
      */
@@ -124,10 +160,20 @@ public interface Model {
     ObservableList<Project> getFilteredProjectList();
 
     /**
-     * Looks for the project in the list of projects.
+     * Returns the project whose name equals {@code projectName} ignoring case, or null if there is no such project.
      */
     Project getProjectByName(String projectName);
 
+    /**
+     * Returns the projects that {@code person} is a member of.
+     */
+    List<Project> getProjectsForPerson(Person person);
+
+    /**
+     * Returns the person with the given {@code id}, or null if there is no such person.
+     */
+    Person getPersonById(int id);
+
     /**
      * Updates the filter of the filtered project list to filter by the given {@code project}.
      * @throws NullPointerException if {@code project} is null.
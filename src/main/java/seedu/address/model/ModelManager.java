@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,6 +15,13 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.SortedPersonList;
+import seedu.address.model.person.predicates.IndexedPersonMatcher;
+import seedu.address.model.person.predicates.IndexedPersonPredicate;
+import seedu.address.model.person.predicates.PersonHasTagsPredicate;
+import seedu.address.model.person.predicates.RankedPersonMatcher;
+import seedu.address.model.person.predicates.TaggedPersonMatcher;
 import seedu.address.model.project.Project;
 
 /**
@@ -24,10 +33,13 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedPersonList displayedPersons;
     private final FilteredList<Project> filteredProjects;
+    private Comparator<Person> personOrder;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Persons are listed in the sort order kept in {@code userPrefs}, if there is one.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
@@ -36,7 +48,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        personOrder = this.userPrefs.getPersonSortOrder().getComparator();
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        displayedPersons = new SortedPersonList(filteredPersons, personOrder);
         filteredProjects = new FilteredList<>(this.addressBook.getProjectList());
     }
 
@@ -91,6 +105,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -106,6 +125,14 @@ public class ModelManager implements Model {
         updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
     }
 
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireAllNonNull(targets);
+        addressBook.removePersons(targets);
+
+        updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
@@ -119,10 +146,31 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        addressBook.setPersons(targets, editedPersons);
+    }
+
+    /**
+     * Lists persons in the order of {@code comparator} from now on, without reordering the address book.
+     * The sorted list places added and edited persons in their position instead of sorting everyone again, and sorts
+     * large lists in parallel, see {@link SortedPersonList}.
+     */
     @Override
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        addressBook.sortPersons(comparator);
+        personOrder = comparator;
+        displayedPersons.setComparator(comparator);
+    }
+
+    @Override
+    public void setPersonSortOrder(PersonSortOrder order) {
+        requireNonNull(order);
+        checkArgument(!order.isUnsorted(), "The sort order must sort persons");
+        userPrefs.setPersonSortOrder(order);
+        sortPersons(order.getComparator());
     }
 
     @Override
@@ -145,9 +193,7 @@ public class ModelManager implements Model {
     @Override
     public Project getProjectByName(String projectName) {
         requireNonNull(projectName);
-        return addressBook.getProjectList().stream()
-                .filter(p -> p.getName().equalsIgnoreCase(projectName))
-                .findFirst().orElse(null);
+        return addressBook.getProjectByName(projectName);
     }
 
     @Override
@@ -157,21 +203,69 @@ public class ModelManager implements Model {
         addressBook.setProject(target, editedProject);
     }
 
+    @Override
+    public List<Project> getProjectsForPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getProjectsForPerson(person);
+    }
+
+    @Override
+    public Person getPersonById(int id) {
+        return addressBook.getPersonById(id);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order last given to {@link #sortPersons(Comparator)}, or else the order of
+     * the address book. The results of {@link #searchPersons(List)} are listed best match first instead.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons.asUnmodifiableObservableList();
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setDisplayedPersons(getMatcher(predicate), personOrder);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up its matches in the indexes of the address
+     * book, if they support it, instead of testing every person.
+     */
+    private Predicate<Person> getMatcher(Predicate<Person> predicate) {
+        if (predicate instanceof IndexedPersonPredicate) {
+            return new IndexedPersonMatcher((IndexedPersonPredicate) predicate, addressBook.getPersonTokenIndex());
+        }
+        if (predicate instanceof PersonHasTagsPredicate && ((PersonHasTagsPredicate) predicate).isIndexed()) {
+            return new TaggedPersonMatcher((PersonHasTagsPredicate) predicate, addressBook.getTagRegistry());
+        }
+        return predicate;
+    }
+
+    @Override
+    public void searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        RankedPersonMatcher matcher = new RankedPersonMatcher(keywords, addressBook.getPersonSearchIndex());
+        setDisplayedPersons(matcher, personOrder == null
+                ? matcher.getComparator()
+                : matcher.getComparator().thenComparing(personOrder));
+    }
+
+    /**
+     * Lists the persons that satisfy {@code predicate} in the order of {@code comparator}, or in the order of the
+     * address book if it is null.
+     */
+    private void setDisplayedPersons(Predicate<Person> predicate, Comparator<Person> comparator) {
+        if (filteredPersons.getPredicate() != predicate) {
+            // Sorting the persons that pass the new predicate once is faster than inserting them one at a time
+            displayedPersons.setComparator(null);
+            filteredPersons.setPredicate(predicate);
+        }
+        displayedPersons.setComparator(comparator);
     }
 
     //=========== Filtered Project List Accessors =============================================================
@@ -205,7 +299,8 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && displayedPersons.asUnmodifiableObservableList()
+                        .equals(otherModelManager.displayedPersons.asUnmodifiableObservableList());
     }
 
 }
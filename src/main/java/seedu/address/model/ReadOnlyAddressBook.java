@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.project.Project;
@@ -20,4 +22,18 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate persons.
      */
     ObservableList<Project> getProjectList();
+
+    /**
+     * Returns a number that identifies the contents of this address book.
+     * It changes every time the address book is modified, and address books with the same version have the same
+     * contents.
+     */
+    long getVersion();
+
+    /**
+     * Returns the most recent changes made to this address book, oldest first, ending with the change that led to
+     * the current version.
+     * The changes go back as far as the last modification that was not recorded as a change, and may be empty.
+     */
+    List<AddressBookChange> getRecentChanges();
 }
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.person.PersonSortOrder;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageFormat getAddressBookStorageFormat();
+
+    boolean isAddressBookWriteBehind();
+
+    PersonSortOrder getPersonSortOrder();
+
 }
@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.person.PersonSortOrder;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageFormat addressBookStorageFormat = StorageFormat.PRETTY;
+    private boolean isAddressBookWriteBehind = true;
+    private PersonSortOrder personSortOrder = new PersonSortOrder();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        setAddressBookWriteBehind(newUserPrefs.isAddressBookWriteBehind());
+        setPersonSortOrder(newUserPrefs.getPersonSortOrder());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(StorageFormat addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public boolean isAddressBookWriteBehind() {
+        return isAddressBookWriteBehind;
+    }
+
+    /**
+     * Sets whether the address book is saved in the background, after the command that changed it has returned.
+     */
+    public void setAddressBookWriteBehind(boolean isAddressBookWriteBehind) {
+        this.isAddressBookWriteBehind = isAddressBookWriteBehind;
+    }
+
+    public PersonSortOrder getPersonSortOrder() {
+        return personSortOrder;
+    }
+
+    public void setPersonSortOrder(PersonSortOrder personSortOrder) {
+        requireNonNull(personSortOrder);
+        this.personSortOrder = personSortOrder;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +106,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookStorageFormat == otherUserPrefs.addressBookStorageFormat
+                && isAddressBookWriteBehind == otherUserPrefs.isAddressBookWriteBehind
+                && personSortOrder.equals(otherUserPrefs.personSortOrder);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageFormat, isAddressBookWriteBehind,
+                personSortOrder);
     }
 
     @Override
@@ -82,6 +123,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nLocal data file saved in the background : " + isAddressBookWriteBehind);
+        sb.append("\nPerson sort order : " + personSortOrder);
         return sb.toString();
     }
 
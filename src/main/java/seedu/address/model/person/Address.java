@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -18,6 +21,7 @@ public class Address {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    private String sortKey;
 
     /**
      * Constructs an {@code Address}.
@@ -34,7 +38,18 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the address with its case folded, so that sorting addresses ignoring case does not fold them again on
+     * every comparison.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.toCaseInsensitiveKey(value);
+        }
+        return sortKey;
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -32,6 +35,7 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     public final String value;
+    private String sortKey;
 
     /**
      * Constructs an {@code Email}.
@@ -48,7 +52,17 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the key that emails are sorted by ignoring case, as in {@link Name#getSortKey()}.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.toCaseInsensitiveKey(value);
+        }
+        return sortKey;
     }
 
     @Override
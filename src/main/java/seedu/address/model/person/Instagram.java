@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Instagram handle for a Person.
  */
@@ -42,7 +44,7 @@ public class Instagram {
      * @return true if valid, false otherwise
      */
     public static boolean isValidInstagram(String test) {
-        return test.isEmpty() || test.equals("-") || test.matches(VALIDATION_REGEX);
+        return test.isEmpty() || test.equals("-") || ValidationUtil.matches(test, VALIDATION_REGEX);
     }
 
     @Override
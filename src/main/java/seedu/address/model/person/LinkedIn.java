@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a LinkedIn profile for a Person.
  */
@@ -43,7 +45,7 @@ public class LinkedIn {
      * @return true if valid, false otherwise
      */
     public static boolean isValidLinkedIn(String test) {
-        return test.isEmpty() || test.equals("-") || test.matches(VALIDATION_REGEX);
+        return test.isEmpty() || test.equals("-") || ValidationUtil.matches(test, VALIDATION_REGEX);
     }
 
     @Override
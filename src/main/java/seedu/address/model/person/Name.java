@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +22,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private String sortKey;
 
     /**
      * Constructs a {@code Name}.
@@ -35,10 +39,21 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
     }
 
 
+    /**
+     * Returns the name with the case of every character folded, which orders names as
+     * {@link String#CASE_INSENSITIVE_ORDER} orders their text, computed once when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.toCaseInsensitiveKey(fullName);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -17,6 +17,11 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    /** Id of a person that has not been assigned one by an address book. */
+    public static final int UNASSIGNED_ID = 0;
+
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -34,7 +39,13 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Socials socials, Address address, Priority priority,
             Set<Tag> tags) {
+        this(UNASSIGNED_ID, name, phone, email, socials, address, priority, tags);
+    }
+
+    private Person(int id, Name name, Phone phone, Email email, Socials socials, Address address,
+            Priority priority, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -45,6 +56,35 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Returns the id assigned to this person by the address book, or {@link #UNASSIGNED_ID} if there is none.
+     * The id does not take part in {@link #equals(Object)}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this person has been assigned an id.
+     */
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id}.
+     */
+    public Person withId(int id) {
+        return new Person(id, name, phone, email, socials, address, priority, tags);
+    }
+
+    /**
+     * Returns a copy of this person, with the same id, that has the given {@code tags} instead.
+     */
+    public Person withTags(Set<Tag> tags) {
+        return new Person(id, name, phone, email, socials, address, priority, tags);
+    }
+
     public Name getName() {
         return name;
     }
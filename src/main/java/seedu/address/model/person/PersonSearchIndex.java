@@ -0,0 +1,472 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the words that persons can be searched by: the words in their names, their emails and the parts of
+ * their emails before the {@code @}, their tags and their social media handles. Words are indexed with their case
+ * folded, as in {@link StringUtil#toCaseInsensitiveKey(String)}.
+ * <p>
+ * A search matches each keyword against whole words, against the start of words, and, for keywords long enough to
+ * tell apart, against words with a few typos. Words starting with a keyword are a range of the sorted map of all
+ * words, which serves as the prefix tree. Words with typos are narrowed down to those sharing enough trigrams
+ * (substrings of three characters) with the keyword before their edit distance is computed. Whole emails are only
+ * matched without typos, as their common domains would make most words share trigrams with most keywords; the part
+ * before the {@code @} is matched with typos like any other word.
+ * <p>
+ * Searches keep track of the words they have found in the index itself, so the index must not be searched by more
+ * than one thread at a time.
+ */
+public class PersonSearchIndex {
+
+    /** Rank of a person with a word equal to a keyword. Lower ranks are better matches. */
+    public static final int RANK_EXACT = 0;
+    /** Rank of a person with a word starting with a keyword. */
+    public static final int RANK_PREFIX = 1;
+    /** Rank of a person with a word one typo away from a keyword. Each further typo adds one to the rank. */
+    public static final int RANK_FUZZY = 2;
+    /** Rank of a person without any word matching a keyword. */
+    public static final int RANK_NONE = Integer.MAX_VALUE;
+
+    private static final int MAX_TYPOS = 2;
+    // A typo changes at most the three trigrams that overlap it
+    private static final int TRIGRAMS_PER_TYPO = 3;
+    private static final char WORD_BOUNDARY = '\0';
+    // More than the 16 bits of a char, so that the characters of a trigram land on different bits of its hash code
+    private static final int BITS_PER_CHAR = 21;
+    private static final IntList NO_WORD_IDS = new IntList();
+
+    private final NavigableMap<String, Word> words = new TreeMap<>();
+    // Words are also numbered, so that fuzzy searches only go through arrays of numbers until they find a candidate
+    private final Map<Long, IntList> wordIdsByTrigram = new HashMap<>();
+    private final IntList freeWordIds = new IntList();
+    private Word[] wordsById = new Word[0];
+    private int[] wordLengths = new int[0];
+    // For each word, the last search that found it as a candidate and how many trigrams it shares with the keyword,
+    // next to each other so that a search reads both at once
+    private int[] searchStates = new int[0];
+    private int wordIdCount = 0;
+    private long version = 0;
+    private int searchCount = 0;
+
+    /**
+     * A word in the index and the persons with it.
+     */
+    private static class Word {
+        private final String key;
+        private final int id;
+        private final List<Person> persons = new ArrayList<>(1);
+
+        private Word(String key, int id) {
+            this.key = key;
+            this.id = id;
+        }
+    }
+
+    /**
+     * A growable list of {@code int} values, which unlike a list of {@code Integer} keeps the values next to each
+     * other in memory.
+     */
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        private int size() {
+            return size;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+
+        private int removeLast() {
+            return values[--size];
+        }
+
+        private void removeValue(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    // Order does not matter, so the last value fills the gap
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String wordKey : getWordKeys(person)) {
+            Word word = words.get(wordKey);
+            if (word == null) {
+                word = addWord(wordKey);
+            }
+            word.persons.add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, the same instance that was added, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String wordKey : getWordKeys(person)) {
+            Word word = words.get(wordKey);
+            if (word != null && removeInstance(word.persons, person) && word.persons.isEmpty()) {
+                removeWord(word);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        words.clear();
+        wordIdsByTrigram.clear();
+        freeWordIds.clear();
+        wordsById = new Word[0];
+        wordIdCount = 0;
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the number of times the index has been modified, which changes whenever the result of a search may
+     * have changed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons with a word matching any of {@code keywords}, each with its best rank over all keywords.
+     * The returned map compares persons by identity.
+     */
+    public Map<Person, Integer> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            String key = StringUtil.toCaseInsensitiveKey(keyword);
+            for (Word word : words.tailMap(key, true).values()) {
+                if (!word.key.startsWith(key)) {
+                    break;
+                }
+                addRanks(ranks, word.persons, word.key.length() == key.length() ? RANK_EXACT : RANK_PREFIX);
+            }
+
+            int maxTypos = getMaxTypos(key);
+            if (maxTypos > 0) {
+                addFuzzyRanks(ranks, key, maxTypos);
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the best rank of {@code person} over all {@code keywords}, computed without the index. This is the same
+     * rank as {@link #search(List)} would find for the person.
+     */
+    public static int getRank(Person person, List<String> keywords) {
+        requireNonNull(person);
+        requireNonNull(keywords);
+        Set<String> wordKeys = getWordKeys(person);
+        int rank = RANK_NONE;
+        for (String keyword : keywords) {
+            String key = StringUtil.toCaseInsensitiveKey(keyword);
+            int maxTypos = getMaxTypos(key);
+            for (String wordKey : wordKeys) {
+                rank = Math.min(rank, getRank(key, maxTypos, wordKey));
+            }
+        }
+        return rank;
+    }
+
+    private static int getRank(String key, int maxTypos, String wordKey) {
+        if (wordKey.startsWith(key)) {
+            return wordKey.length() == key.length() ? RANK_EXACT : RANK_PREFIX;
+        }
+        if (maxTypos == 0 || !isFuzzy(wordKey)) {
+            return RANK_NONE;
+        }
+        int typos = getEditDistance(key, wordKey, maxTypos);
+        return typos <= maxTypos ? RANK_FUZZY + typos - 1 : RANK_NONE;
+    }
+
+    private Word addWord(String wordKey) {
+        int id = freeWordIds.size() > 0 ? freeWordIds.removeLast() : wordIdCount++;
+        if (id == wordsById.length) {
+            int capacity = Math.max(16, id * 2);
+            wordsById = Arrays.copyOf(wordsById, capacity);
+            wordLengths = Arrays.copyOf(wordLengths, capacity);
+            searchStates = Arrays.copyOf(searchStates, capacity * 2);
+        }
+        Word word = new Word(wordKey, id);
+        words.put(wordKey, word);
+        wordsById[id] = word;
+        wordLengths[id] = wordKey.length();
+        searchStates[id * 2] = 0;
+
+        if (isFuzzy(wordKey)) {
+            for (long trigram : getTrigrams(wordKey)) {
+                wordIdsByTrigram.computeIfAbsent(trigram, unused -> new IntList()).add(id);
+            }
+        }
+        return word;
+    }
+
+    private void removeWord(Word word) {
+        words.remove(word.key);
+        wordsById[word.id] = null;
+        freeWordIds.add(word.id);
+
+        if (isFuzzy(word.key)) {
+            for (long trigram : getTrigrams(word.key)) {
+                IntList wordIds = wordIdsByTrigram.get(trigram);
+                wordIds.removeValue(word.id);
+                if (wordIds.size() == 0) {
+                    wordIdsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the persons with a word within {@code maxTypos} typos of {@code key}, but not starting with it.
+     * A word within {@code maxTypos} typos shares all but {@code TRIGRAMS_PER_TYPO * maxTypos} of the trigrams of
+     * {@code key}, so it has at least one of any {@code TRIGRAMS_PER_TYPO * maxTypos + 1} of them. The words with the
+     * rarest of those trigrams are the candidates, and the words with the other trigrams only add to the counts of
+     * the candidates. Only the candidates of a similar length sharing enough trigrams need their edit distance
+     * computed.
+     */
+    private void addFuzzyRanks(Map<Person, Integer> ranks, String key, int maxTypos) {
+        long[] trigrams = getTrigrams(key);
+        IntList[] trigramWordIds = new IntList[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigramWordIds[i] = wordIdsByTrigram.getOrDefault(trigrams[i], NO_WORD_IDS);
+        }
+        Arrays.sort(trigramWordIds, Comparator.comparingInt(IntList::size));
+        int candidateTrigramCount = TRIGRAMS_PER_TYPO * maxTypos + 1;
+        int minSharedTrigramCount = trigrams.length - TRIGRAMS_PER_TYPO * maxTypos;
+        int searchId = ++searchCount;
+
+        IntList candidateIds = new IntList();
+        for (int i = 0; i < trigramWordIds.length; i++) {
+            IntList wordIds = trigramWordIds[i];
+            boolean isCandidateTrigram = i < candidateTrigramCount;
+            for (int j = 0; j < wordIds.size(); j++) {
+                int id = wordIds.get(j);
+                if (searchStates[id * 2] == searchId) {
+                    searchStates[id * 2 + 1]++;
+                } else if (isCandidateTrigram) {
+                    searchStates[id * 2] = searchId;
+                    searchStates[id * 2 + 1] = 1;
+                    candidateIds.add(id);
+                }
+            }
+        }
+
+        for (int i = 0; i < candidateIds.size(); i++) {
+            int id = candidateIds.get(i);
+            if (searchStates[id * 2 + 1] < minSharedTrigramCount
+                    || Math.abs(wordLengths[id] - key.length()) > maxTypos) {
+                continue;
+            }
+            Word word = wordsById[id];
+            if (word.key.startsWith(key)) {
+                continue;
+            }
+            int typos = getEditDistance(key, word.key, maxTypos);
+            if (typos <= maxTypos) {
+                addRanks(ranks, word.persons, RANK_FUZZY + typos - 1);
+            }
+        }
+    }
+
+    private static void addRanks(Map<Person, Integer> ranks, List<Person> persons, int rank) {
+        for (Person person : persons) {
+            ranks.merge(person, rank, Math::min);
+        }
+    }
+
+    /**
+     * Returns the number of typos allowed in a word matching {@code key}. Short keys must match exactly, as a typo
+     * could leave them without any trigram in common with the word.
+     */
+    private static int getMaxTypos(String key) {
+        return Math.min(MAX_TYPOS, (getTrigrams(key).length - 1) / TRIGRAMS_PER_TYPO);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code key} in ascending order, with its start and end marked so that they
+     * count as well. Each trigram is packed into a {@code long}, one character every {@value #BITS_PER_CHAR} bits.
+     */
+    private static long[] getTrigrams(String key) {
+        long[] trigrams = new long[key.length()];
+        for (int i = 0; i < key.length(); i++) {
+            trigrams[i] = getTrigram(key, i);
+        }
+        Arrays.sort(trigrams);
+
+        int distinctCount = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinctCount++] = trigrams[i];
+            }
+        }
+        return distinctCount == trigrams.length ? trigrams : Arrays.copyOf(trigrams, distinctCount);
+    }
+
+    /**
+     * Returns the trigram centred on the character at {@code index} of {@code key}.
+     */
+    private static long getTrigram(String key, int index) {
+        return (long) getMarkedChar(key, index - 1) << (2 * BITS_PER_CHAR)
+                | (long) key.charAt(index) << BITS_PER_CHAR | getMarkedChar(key, index + 1);
+    }
+
+    private static char getMarkedChar(String key, int index) {
+        return index < 0 || index >= key.length() ? WORD_BOUNDARY : key.charAt(index);
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions and substitutions that turn {@code a} into
+     * {@code b}, or any number greater than {@code max} if more than {@code max} are needed.
+     * Only the distances of prefixes whose lengths differ by at most {@code max} are computed, as the others are
+     * already too far apart.
+     */
+    static int getEditDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int tooFar = max + 1;
+        // row[j] is the distance from the first i characters of a to the first j characters of b
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int first = Math.max(1, i - max);
+            int last = Math.min(b.length(), i + max);
+            int diagonal = row[first - 1];
+            row[first - 1] = first == 1 ? Math.min(i, tooFar) : tooFar;
+            int rowMin = row[first - 1];
+            for (int j = first; j <= last; j++) {
+                int above = row[j];
+                int distance = diagonal + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                distance = Math.min(distance, Math.min(above, row[j - 1]) + 1);
+                row[j] = Math.min(distance, tooFar);
+                rowMin = Math.min(rowMin, row[j]);
+                diagonal = above;
+            }
+            if (last < b.length()) {
+                row[last + 1] = tooFar;
+            }
+            if (rowMin > max) {
+                return tooFar;
+            }
+        }
+        return row[b.length()];
+    }
+
+    /**
+     * Returns the distinct words that {@code person} can be found by, with their case folded.
+     */
+    static Set<String> getWordKeys(Person person) {
+        Set<String> wordKeys = new HashSet<>();
+        String name = person.getName().fullName;
+        int wordStart = 0;
+        // Splits the name by hand, as splitting by a regular expression compiles it for every person
+        for (int i = 0; i <= name.length(); i++) {
+            if (i == name.length() || Character.isWhitespace(name.charAt(i))) {
+                if (i > wordStart) {
+                    wordKeys.add(StringUtil.toCaseInsensitiveKey(name.substring(wordStart, i)));
+                }
+                wordStart = i + 1;
+            }
+        }
+
+        String email = StringUtil.toCaseInsensitiveKey(person.getEmail().value);
+        wordKeys.add(email);
+        wordKeys.add(PersonTokenIndex.getLocalPart(email));
+
+        for (Tag tag : person.getTags()) {
+            wordKeys.add(StringUtil.toCaseInsensitiveKey(tag.tagName));
+        }
+
+        Socials socials = person.getSocials();
+        for (String social : new String[] {socials.getDiscord().value, socials.getLinkedIn().value,
+            socials.getInstagram().value, socials.getYouTube().value}) {
+            String handle = getHandle(social);
+            if (!handle.isEmpty()) {
+                wordKeys.add(StringUtil.toCaseInsensitiveKey(handle));
+            }
+        }
+        return wordKeys;
+    }
+
+    /**
+     * Returns true if words with typos in them can match {@code wordKey}, which is every word but whole emails.
+     */
+    private static boolean isFuzzy(String wordKey) {
+        return wordKey.indexOf('@') == -1;
+    }
+
+    /**
+     * Returns the handle in {@code social}, which is the last part of a profile URL without any leading {@code @}.
+     */
+    static String getHandle(String social) {
+        String handle = social.trim();
+        while (handle.endsWith("/")) {
+            handle = handle.substring(0, handle.length() - 1);
+        }
+        handle = handle.substring(handle.lastIndexOf('/') + 1);
+        return handle.startsWith("@") ? handle.substring(1) : handle;
+    }
+
+    private static <T> boolean removeInstance(List<T> list, T element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                // Order does not matter, so the last element fills the gap
+                list.set(i, list.get(list.size() - 1));
+                list.remove(list.size() - 1);
+                return true;
+            }
+        }
+        return false;
+    }
+}
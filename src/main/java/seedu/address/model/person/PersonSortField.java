@@ -0,0 +1,31 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * The fields that persons can be sorted by, each with the ascending order of its values.
+ * Text is compared ignoring case by the sort keys that the fields compute once, and priorities by their rank, so
+ * comparing two persons allocates nothing.
+ */
+public enum PersonSortField {
+    NAME(Comparator.comparing(person -> person.getName().getSortKey())),
+    EMAIL(Comparator.comparing(person -> person.getEmail().getSortKey())),
+    // Phone numbers only have digits, which have no case
+    PHONE(Comparator.comparing(person -> person.getPhone().value)),
+    ADDRESS(Comparator.comparing(person -> person.getAddress().getSortKey())),
+    PRIORITY(Comparator.comparing(Person::getPriority));
+
+    private final Comparator<Person> ascendingOrder;
+
+    PersonSortField(Comparator<Person> ascendingOrder) {
+        this.ascendingOrder = ascendingOrder;
+    }
+
+    /**
+     * Returns the order of persons by this field, from the lowest value up if {@code isAscending}, or else from the
+     * highest value down.
+     */
+    public Comparator<Person> getOrder(boolean isAscending) {
+        return isAscending ? ascendingOrder : ascendingOrder.reversed();
+    }
+}
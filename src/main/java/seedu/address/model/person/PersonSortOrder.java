@@ -0,0 +1,152 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The fields that persons are sorted by, in order of precedence, each in its own direction.
+ * Persons that no field tells apart are ordered by name.
+ * Guarantees: immutable.
+ */
+public class PersonSortOrder {
+
+    private final List<SortKey> keys;
+
+    /**
+     * Constructs a {@code PersonSortOrder} that does not sort persons.
+     */
+    public PersonSortOrder() {
+        keys = List.of();
+    }
+
+    /**
+     * Constructs a {@code PersonSortOrder} that sorts persons by {@code keys}, the first one taking precedence.
+     */
+    public PersonSortOrder(List<SortKey> keys) {
+        requireAllNonNull(keys);
+        this.keys = List.copyOf(keys);
+    }
+
+    public List<SortKey> getKeys() {
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Returns true if this order does not sort persons.
+     */
+    public boolean isUnsorted() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * Returns the order of persons by all of the keys, chained into a single comparator that breaks the remaining
+     * ties by name, or null if this order does not sort persons.
+     */
+    public Comparator<Person> getComparator() {
+        if (isUnsorted()) {
+            return null;
+        }
+        Comparator<Person> comparator = keys.get(0).getOrder();
+        for (SortKey key : keys.subList(1, keys.size())) {
+            comparator = comparator.thenComparing(key.getOrder());
+        }
+        return comparator.thenComparing(PersonSortField.NAME.getOrder(true));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherPersonSortOrder = (PersonSortOrder) other;
+        return keys.equals(otherPersonSortOrder.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keys", keys)
+                .toString();
+    }
+
+    /**
+     * A field to sort persons by, and whether its values are sorted from the lowest up.
+     */
+    public static class SortKey {
+
+        private final PersonSortField field;
+        private final boolean isAscending;
+
+        /**
+         * Constructs a {@code SortKey} that sorts persons by names from the lowest up, needed to read keys from JSON.
+         */
+        private SortKey() {
+            this(PersonSortField.NAME, true);
+        }
+
+        /**
+         * Constructs a {@code SortKey} that sorts persons by {@code field}, from the lowest value up if
+         * {@code isAscending}.
+         */
+        public SortKey(PersonSortField field, boolean isAscending) {
+            requireNonNull(field);
+            this.field = field;
+            this.isAscending = isAscending;
+        }
+
+        public PersonSortField getField() {
+            return field;
+        }
+
+        public boolean isAscending() {
+            return isAscending;
+        }
+
+        private Comparator<Person> getOrder() {
+            return field.getOrder(isAscending);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SortKey)) {
+                return false;
+            }
+
+            SortKey otherSortKey = (SortKey) other;
+            return field == otherSortKey.field && isAscending == otherSortKey.isAscending;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, isAscending);
+        }
+
+        @Override
+        public String toString() {
+            return field + (isAscending ? " ascending" : " descending");
+        }
+    }
+}
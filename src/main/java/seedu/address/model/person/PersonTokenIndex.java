@@ -0,0 +1,179 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of persons by the words in their names, their phone numbers and the parts of their emails.
+ * Words in names are matched ignoring case, as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ * Emails and their parts are indexed in lower case, and phone numbers exactly as they are.
+ */
+public class PersonTokenIndex {
+
+    private final Map<String, List<Person>> personsByNameWord = new HashMap<>();
+    private final Map<String, List<Person>> personsByPhone = new HashMap<>();
+    private final Map<String, List<Person>> personsByEmail = new HashMap<>();
+    private final Map<String, List<Person>> personsByEmailLocalPart = new HashMap<>();
+    private final Map<String, List<Person>> personsByEmailDomain = new HashMap<>();
+    private long version = 0;
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String nameWordKey : getNameWordKeys(person)) {
+            put(personsByNameWord, nameWordKey, person);
+        }
+        put(personsByPhone, person.getPhone().value, person);
+
+        String email = person.getEmail().value.toLowerCase();
+        put(personsByEmail, email, person);
+        put(personsByEmailLocalPart, getLocalPart(email), person);
+        put(personsByEmailDomain, getDomain(email), person);
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, the same instance that was added, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String nameWordKey : getNameWordKeys(person)) {
+            remove(personsByNameWord, nameWordKey, person);
+        }
+        remove(personsByPhone, person.getPhone().value, person);
+
+        String email = person.getEmail().value.toLowerCase();
+        remove(personsByEmail, email, person);
+        remove(personsByEmailLocalPart, getLocalPart(email), person);
+        remove(personsByEmailDomain, getDomain(email), person);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        personsByNameWord.clear();
+        personsByPhone.clear();
+        personsByEmail.clear();
+        personsByEmailLocalPart.clear();
+        personsByEmailDomain.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the number of times the index has been modified, which changes whenever the result of a lookup may
+     * have changed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons with {@code word} as one of the words in their name, ignoring case.
+     */
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return get(personsByNameWord, StringUtil.toCaseInsensitiveKey(word));
+    }
+
+    /**
+     * Returns the persons with the phone number {@code phone}.
+     */
+    public List<Person> getPersonsWithPhone(String phone) {
+        requireNonNull(phone);
+        return get(personsByPhone, phone);
+    }
+
+    /**
+     * Returns the persons whose email in lower case is {@code email}.
+     */
+    public List<Person> getPersonsWithEmail(String email) {
+        requireNonNull(email);
+        return get(personsByEmail, email);
+    }
+
+    /**
+     * Returns the persons whose email in lower case has {@code localPart} before the {@code @}.
+     */
+    public List<Person> getPersonsWithEmailLocalPart(String localPart) {
+        requireNonNull(localPart);
+        return get(personsByEmailLocalPart, localPart);
+    }
+
+    /**
+     * Returns the persons whose email in lower case has {@code domain} after the {@code @}.
+     */
+    public List<Person> getPersonsWithEmailDomain(String domain) {
+        requireNonNull(domain);
+        return get(personsByEmailDomain, domain);
+    }
+
+    /**
+     * Returns the part of the lower case {@code email} before the {@code @}.
+     */
+    public static String getLocalPart(String email) {
+        return email.split("@")[0];
+    }
+
+    /**
+     * Returns the part of the lower case {@code email} after the {@code @}, or an empty string if there is none.
+     */
+    public static String getDomain(String email) {
+        String[] emailParts = email.split("@");
+        return emailParts.length > 1 ? emailParts[1] : "";
+    }
+
+    /**
+     * Returns the distinct words in the name of {@code person}, with their case folded.
+     */
+    private static Set<String> getNameWordKeys(Person person) {
+        Set<String> nameWordKeys = new HashSet<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            nameWordKeys.add(StringUtil.toCaseInsensitiveKey(word));
+        }
+        return nameWordKeys;
+    }
+
+    private static void put(Map<String, List<Person>> map, String key, Person person) {
+        map.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(person);
+    }
+
+    private static void remove(Map<String, List<Person>> map, String key, Person person) {
+        List<Person> persons = map.get(key);
+        if (persons == null) {
+            return;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                // Order does not matter, so the last person fills the gap
+                persons.set(i, persons.get(persons.size() - 1));
+                persons.remove(persons.size() - 1);
+                break;
+            }
+        }
+        if (persons.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static List<Person> get(Map<String, List<Person>> map, String key) {
+        List<Person> persons = map.get(key);
+        return persons == null ? Collections.emptyList() : Collections.unmodifiableList(persons);
+    }
+}
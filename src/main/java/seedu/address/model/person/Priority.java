@@ -5,13 +5,20 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Priority in the address book.
  * Guarantees: immutable; value is valid as declared in {@link #isValidPriority(String)}
+ * Backed by one of the shared {@link seedu.address.model.priority.Priority} levels, so priorities are compared by
+ * their rank without looking at their text.
  */
-public class Priority {
+public class Priority implements Comparable<Priority> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Priority must be LOW/MEDIUM/HIGH";
 
+    private static final seedu.address.model.priority.Priority[] LEVELS =
+            seedu.address.model.priority.Priority.values();
+
     public final String value;
+    private final seedu.address.model.priority.Priority level;
+
     /**
      * Constructs a {@code Priority}.
      *
@@ -19,7 +26,8 @@ public class Priority {
      */
     public Priority(String value) {
         checkArgument(isValidPriority(value), MESSAGE_CONSTRAINTS);
-        this.value = value;
+        this.level = seedu.address.model.priority.Priority.valueOf(value);
+        this.value = level.name();
     }
     /**
      * Constructs a {@code Priority} from the Priority enum.
@@ -28,6 +36,7 @@ public class Priority {
      */
     public Priority(seedu.address.model.priority.Priority e) {
         checkArgument(isValidPriority(e.name()), MESSAGE_CONSTRAINTS);
+        this.level = e;
         this.value = e.name();
     }
     /**
@@ -36,6 +45,30 @@ public class Priority {
     public static boolean isValidPriority(String test) {
         return test.equals("LOW") || test.equals("MEDIUM") || test.equals("HIGH");
     }
+
+    /**
+     * Returns the level of this priority.
+     */
+    public seedu.address.model.priority.Priority getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the rank of this priority, from 0 for the lowest priority up.
+     */
+    public int getRank() {
+        // The levels are declared from the highest priority to the lowest
+        return LEVELS.length - 1 - level.ordinal();
+    }
+
+    /**
+     * Orders priorities from the lowest to the highest.
+     */
+    @Override
+    public int compareTo(Priority other) {
+        return Integer.compare(getRank(), other.getRank());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -48,7 +81,7 @@ public class Priority {
         }
 
         seedu.address.model.person.Priority otherPriority = (seedu.address.model.person.Priority) other;
-        return this.value.equals(otherPriority.value);
+        return level == otherPriority.level;
     }
 
     @Override
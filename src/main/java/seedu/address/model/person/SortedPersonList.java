@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A view of a list of persons in the order of a comparator, or in the order of the list if there is none.
+ * Persons added to or removed from the list later are inserted or removed in place instead of sorting again.
+ *
+ * Sorting copies the persons into an array, sorts it and replaces the contents of the view with one change. Arrays of
+ * at least {@link #setParallelSortThreshold(int) the threshold} of persons are sorted by
+ * {@link Arrays#parallelSort(Object[], Comparator)}, which splits the work over the common fork-join pool instead of
+ * the calling thread alone. Both sorts are stable, so the order of persons that compare equal is the same either way.
+ */
+public class SortedPersonList {
+
+    /** The default number of persons from which they are sorted in parallel. */
+    public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 10_000;
+
+    private final ObservableList<Person> source;
+    private final ObservableList<Person> sortedPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableSortedPersons =
+            FXCollections.unmodifiableObservableList(sortedPersons);
+    private Comparator<Person> comparator;
+    private int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
+
+    /**
+     * Creates a {@code SortedPersonList} of the persons in {@code source} in the order of {@code comparator}, or in
+     * the order of {@code source} if it is null.
+     */
+    public SortedPersonList(ObservableList<Person> source, Comparator<Person> comparator) {
+        requireNonNull(source);
+        this.source = source;
+        this.comparator = comparator;
+        sort();
+        source.addListener(this::sourceChanged);
+    }
+
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the persons in the order of {@code comparator}, or in the order of the source list if it is null.
+     */
+    public void setComparator(Comparator<Person> comparator) {
+        this.comparator = comparator;
+        sort();
+    }
+
+    /**
+     * Sets the number of persons from which they are sorted in parallel.
+     * {@code threshold} must be positive.
+     */
+    public void setParallelSortThreshold(int threshold) {
+        checkArgument(threshold > 0, "Parallel sort threshold must be positive");
+        parallelSortThreshold = threshold;
+    }
+
+    /**
+     * Returns the sorted persons as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiableSortedPersons;
+    }
+
+    private void sort() {
+        Person[] persons = source.toArray(new Person[0]);
+        if (comparator != null && persons.length >= parallelSortThreshold) {
+            Arrays.parallelSort(persons, comparator);
+        } else if (comparator != null) {
+            Arrays.sort(persons, comparator);
+        }
+        sortedPersons.setAll(persons);
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (comparator == null) {
+                // Follows the source, as in Bindings.bindContent
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    sortedPersons.subList(from, change.getTo()).clear();
+                    sortedPersons.addAll(from, source.subList(from, change.getTo()));
+                } else {
+                    sortedPersons.subList(from, from + change.getRemovedSize()).clear();
+                    sortedPersons.addAll(from, change.getAddedSubList());
+                }
+                continue;
+            }
+
+            // The order of the source does not matter, so permutations are ignored
+            for (Person removed : change.getRemoved()) {
+                sortedPersons.remove(indexOf(removed));
+            }
+            for (Person added : change.getAddedSubList()) {
+                sortedPersons.add(getInsertionIndex(added), added);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code person} in the sorted persons, which must contain it.
+     */
+    private int indexOf(Person person) {
+        int index = getInsertionIndex(person) - 1;
+        while (index >= 0 && sortedPersons.get(index) != person
+                && comparator.compare(sortedPersons.get(index), person) == 0) {
+            index--;
+        }
+        if (index >= 0 && sortedPersons.get(index) == person) {
+            return index;
+        }
+
+        // The comparator may look up values that have changed since the person was sorted
+        for (int i = 0; i < sortedPersons.size(); i++) {
+            if (sortedPersons.get(i) == person) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("The sorted persons do not contain " + person);
+    }
+
+    /**
+     * Returns the index after the last of the sorted persons that does not come after {@code person}.
+     */
+    private int getInsertionIndex(Person person) {
+        int low = 0;
+        int high = sortedPersons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(sortedPersons.get(middle), person) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -1,16 +1,25 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagRegistry;
 
 
 /**
@@ -20,6 +29,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Name} so that identity checks and lookups by name run in
+ * constant time, by a {@link PersonTokenIndex} for searches, and by their tags in a {@link TagRegistry}. The indexes
+ * are kept in sync by every operation that modifies the list. The larger {@link PersonSearchIndex} is only built once
+ * it is first needed, and kept in sync from then on.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,13 +43,25 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final PersonTokenIndex tokenIndex = new PersonTokenIndex();
+    private final TagRegistry tagRegistry = new TagRegistry();
+    private PersonSearchIndex searchIndex;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, or null if there is no such person.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return nameIndex.get(name);
     }
 
     /**
@@ -47,7 +73,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        // The indexes are updated first, so that listeners of the list already find the new person in them
+        tokenIndex.add(toAdd);
+        tagRegistry.add(toAdd);
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
     }
 
     /**
@@ -67,7 +100,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        tokenIndex.remove(internalList.get(index));
+        tokenIndex.add(editedPerson);
+        tagRegistry.remove(internalList.get(index));
+        tagRegistry.add(editedPerson);
+        if (searchIndex != null) {
+            searchIndex.remove(internalList.get(index));
+            searchIndex.add(editedPerson);
+        }
         internalList.set(index, editedPerson);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), editedPerson);
     }
 
     /**
@@ -76,14 +119,101 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        tokenIndex.remove(internalList.get(index));
+        tagRegistry.remove(internalList.get(index));
+        if (searchIndex != null) {
+            searchIndex.remove(internalList.get(index));
+        }
+        internalList.remove(index);
+        nameIndex.remove(toRemove.getName());
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change to the list.
+     * Every person in {@code targets} must exist in the list, and the persons in the list after the change must all
+     * have different identities.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Every target must have an edited person");
+
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            replacements.put(getStoredPerson(targets.get(i)), editedPersons.get(i));
+        }
+        Map<Name, Person> replacementIndex = new HashMap<>(nameIndex);
+        for (Person target : replacements.keySet()) {
+            replacementIndex.remove(target.getName());
+        }
+        for (Person editedPerson : replacements.values()) {
+            if (replacementIndex.putIfAbsent(editedPerson.getName(), editedPerson) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        List<Person> replacedPersons = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            replacedPersons.add(replacements.getOrDefault(person, person));
+        }
+        for (Person target : replacements.keySet()) {
+            tokenIndex.remove(target);
+            tagRegistry.remove(target);
+            if (searchIndex != null) {
+                searchIndex.remove(target);
+            }
+        }
+        for (Person editedPerson : replacements.values()) {
+            tokenIndex.add(editedPerson);
+            tagRegistry.add(editedPerson);
+            if (searchIndex != null) {
+                searchIndex.add(editedPerson);
+            }
+        }
+        internalList.setAll(replacedPersons);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, as a single change to the list.
+     * Every person must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> storedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            storedPersons.add(getStoredPerson(person));
+        }
+
+        for (Person person : storedPersons) {
+            tokenIndex.remove(person);
+            tagRegistry.remove(person);
+            if (searchIndex != null) {
+                searchIndex.remove(person);
+            }
+        }
+        internalList.removeAll(storedPersons);
+        for (Person person : storedPersons) {
+            nameIndex.remove(person.getName());
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        tokenIndex.setPersons(replacement.internalList);
+        tagRegistry.setPersons(replacement.internalList);
+        if (searchIndex != null) {
+            searchIndex.setPersons(replacement.internalList);
+        }
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
     }
 
     /**
@@ -92,21 +222,42 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> replacementIndex = indexByName(persons);
 
+        tokenIndex.setPersons(persons);
+        tagRegistry.setPersons(persons);
+        if (searchIndex != null) {
+            searchIndex.setPersons(persons);
+        }
         internalList.setAll(persons);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+    }
+
+    /**
+     * Returns the index of the words in the names, the phone numbers and the emails of the persons in this list.
+     */
+    public PersonTokenIndex getTokenIndex() {
+        return tokenIndex;
     }
 
     /**
-     * Sorts the contents of this list using {@code comparator}.
-     * {@code comparator} should not be null.
+     * Returns the registry of the tags of the persons in this list.
      */
+    public TagRegistry getTagRegistry() {
+        return tagRegistry;
+    }
 
-    public void sortPersons(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        FXCollections.sort(internalList, comparator);
+    /**
+     * Returns the index of the words that the persons in this list can be searched by, building it if this is the
+     * first time it is needed.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex();
+            searchIndex.setPersons(internalList);
+        }
+        return searchIndex;
     }
 
     /**
@@ -147,16 +298,34 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person in the list that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Person getStoredPerson(Person person) {
+        Person storedPerson = nameIndex.get(person.getName());
+        if (storedPerson == null || !storedPerson.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return storedPerson;
+    }
+
+    /**
+     * Returns {@code persons} indexed by name, built in a single pass.
+     *
+     * @throws DuplicatePersonException naming every identity that occurs more than once in {@code persons}.
+     */
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                duplicateNames.add(person.getName());
             }
         }
-        return true;
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
+        }
+        return index;
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a YouTube channel URL for a Person.
  */
@@ -15,6 +17,13 @@ public class YouTube {
                     + "- youtube.com/c/customName\n"
                     + "- youtube.com/user/username";
 
+    private static final String DOMAIN_PREFIX_REGEX = "^(https?://)?(www\\.)?youtube\\.com/";
+    private static final String DOMAIN_REGEX = DOMAIN_PREFIX_REGEX + ".*";
+    private static final String HANDLE_REGEX = "^(?![_-])[A-Za-z0-9._-]{3,30}(?<![_-])$";
+    private static final String CHANNEL_ID_REGEX = "[\\w-]{22}";
+    private static final String CUSTOM_URL_REGEX = "^(?![_-])[A-Za-z0-9_-]+(?<![_-])$";
+    private static final String USERNAME_REGEX = "[-\\w]+";
+
     /** The YouTube channel URL. */
     public final String value;
 
@@ -46,13 +55,15 @@ public class YouTube {
         }
 
         // Must be YouTube domain
-        if (!input.matches("^(https?://)?(www\\.)?youtube\\.com/.*")) {
+        if (!ValidationUtil.matches(input, DOMAIN_REGEX)) {
             return "URL must be a valid YouTube link starting with '(http(s)://(www.))youtube.com/'.";
         }
 
         // Extract path after domain and remove trailing slash
-        String path = input.replaceFirst("^(https?://)?(www\\.)?youtube\\.com/", "")
-                .replaceAll("/$", "");
+        String path = ValidationUtil.getPattern(DOMAIN_PREFIX_REGEX).matcher(input).replaceFirst("");
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
 
         // Handle format: youtube.com/@handle
         if (path.startsWith("@")) {
@@ -62,7 +73,7 @@ public class YouTube {
             }
             // Regex: letters, digits, underscores, hyphens, periods allowed
             // Cannot start or end with _ or -
-            if (!handle.matches("^(?![_-])[A-Za-z0-9._-]{3,30}(?<![_-])$")) {
+            if (!ValidationUtil.matches(handle, HANDLE_REGEX)) {
                 return "Handle can only contain letters, digits, underscores, hyphens, or periods, "
                         + "and must not start or end with an underscore or hyphen.";
             }
@@ -75,7 +86,7 @@ public class YouTube {
             if (!id.startsWith("UC") || id.length() != 24) {
                 return "Channel ID must start with 'UC' and be 24 characters long.";
             }
-            if (!id.substring(2).matches("[\\w-]{22}")) {
+            if (!ValidationUtil.matches(id.substring(2), CHANNEL_ID_REGEX)) {
                 return "Channel ID can only contain letters, digits, underscores, or hyphens after 'UC'.";
             }
             return null; // valid channel ID
@@ -88,7 +99,7 @@ public class YouTube {
                 return "Custom URL must not be empty.";
             }
             // Regex: letters, digits, underscores, hyphens only, cannot start/end with _ or -
-            if (!name.matches("^(?![_-])[A-Za-z0-9_-]+(?<![_-])$")) {
+            if (!ValidationUtil.matches(name, CUSTOM_URL_REGEX)) {
                 return "Custom URL can only contain letters, digits, underscores, or hyphens, "
                         + "and must not start or end with an underscore or hyphen.";
             }
@@ -101,7 +112,7 @@ public class YouTube {
             if (username.isEmpty()) {
                 return "Username must not be empty.";
             }
-            if (!username.matches("[-\\w]+")) {
+            if (!ValidationUtil.matches(username, USERNAME_REGEX)) {
                 return "Username can only contain letters, digits, underscores, or hyphens.";
             }
             return null;
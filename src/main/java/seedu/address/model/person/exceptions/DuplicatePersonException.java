@@ -1,5 +1,8 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +11,12 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates a {@code DuplicatePersonException} that names every duplicated identity in {@code duplicateNames}.
+     */
+    public DuplicatePersonException(Collection<?> duplicateNames) {
+        super("Operation would result in duplicate persons: "
+                + duplicateNames.stream().map(Object::toString).collect(Collectors.joining(", ")));
+    }
 }
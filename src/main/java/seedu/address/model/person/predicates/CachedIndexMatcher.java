@@ -0,0 +1,53 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests persons against results looked up in an index of type {@code I} once, when created.
+ * Persons added or edited after that are not in the results, so once the version of the index has changed, persons
+ * are tested directly instead.
+ */
+public abstract class CachedIndexMatcher<I> implements Predicate<Person> {
+
+    private final I index;
+    private final ToLongFunction<I> versionOf;
+    private final long indexVersion;
+
+    /**
+     * Creates a {@code CachedIndexMatcher} for results looked up in {@code index} at its current version, which is
+     * returned by {@code versionOf}.
+     */
+    protected CachedIndexMatcher(I index, ToLongFunction<I> versionOf) {
+        requireAllNonNull(index, versionOf);
+        this.index = index;
+        this.versionOf = versionOf;
+        indexVersion = versionOf.applyAsLong(index);
+    }
+
+    /**
+     * Returns true if the index has not changed since the results were looked up.
+     */
+    protected boolean isIndexUnchanged() {
+        return versionOf.applyAsLong(index) == indexVersion;
+    }
+
+    /**
+     * Returns true if {@code person} is in the results looked up in the index.
+     */
+    protected abstract boolean isCachedMatch(Person person);
+
+    /**
+     * Returns true if {@code person} matches, without using the index.
+     */
+    protected abstract boolean isDirectMatch(Person person);
+
+    @Override
+    public boolean test(Person person) {
+        return isIndexUnchanged() ? isCachedMatch(person) : isDirectMatch(person);
+    }
+}
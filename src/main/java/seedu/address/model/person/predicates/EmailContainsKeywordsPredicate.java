@@ -1,15 +1,16 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
@@ -19,9 +20,8 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         String fullEmail = person.getEmail().value.toLowerCase();
-        String[] emailParts = fullEmail.split("@");
-        String localPart = emailParts[0];
-        String domain = emailParts.length > 1 ? emailParts[1] : "";
+        String localPart = PersonTokenIndex.getLocalPart(fullEmail);
+        String domain = PersonTokenIndex.getDomain(fullEmail);
 
         return keywords.stream()
                 .anyMatch(keyword -> {
@@ -51,6 +51,26 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
                 });
     }
 
+    @Override
+    public void addMatches(PersonTokenIndex index, Set<Person> matches) {
+        for (String keyword : keywords) {
+            String lowerKeyword = keyword.toLowerCase();
+            if (!lowerKeyword.contains("@")) {
+                continue;
+            }
+
+            int atIndex = lowerKeyword.indexOf("@");
+            if (lowerKeyword.endsWith("@")) {
+                matches.addAll(index.getPersonsWithEmailLocalPart(
+                        lowerKeyword.substring(0, lowerKeyword.length() - 1)));
+            } else if (atIndex == 0 && lowerKeyword.indexOf(".", atIndex) > atIndex) {
+                matches.addAll(index.getPersonsWithEmailDomain(lowerKeyword.substring(1)));
+            } else {
+                matches.addAll(index.getPersonsWithEmail(lowerKeyword));
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
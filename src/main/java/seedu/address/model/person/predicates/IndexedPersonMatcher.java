@@ -0,0 +1,40 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
+
+/**
+ * Tests persons against an {@code IndexedPersonPredicate} by looking up all of its matches in a
+ * {@code PersonTokenIndex}.
+ */
+public class IndexedPersonMatcher extends CachedIndexMatcher<PersonTokenIndex> {
+
+    private final IndexedPersonPredicate predicate;
+    private final Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates an {@code IndexedPersonMatcher} with the matches of {@code predicate} in {@code index}.
+     */
+    public IndexedPersonMatcher(IndexedPersonPredicate predicate, PersonTokenIndex index) {
+        super(index, PersonTokenIndex::getVersion);
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        predicate.addMatches(index, matches);
+    }
+
+    @Override
+    protected boolean isCachedMatch(Person person) {
+        return matches.contains(person);
+    }
+
+    @Override
+    protected boolean isDirectMatch(Person person) {
+        return predicate.test(person);
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.person.predicates;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
+
+/**
+ * A predicate on persons whose matches can be looked up in a {@link PersonTokenIndex} instead of testing every person.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Adds the persons in {@code index} that satisfy this predicate to {@code matches}.
+     */
+    void addMatches(PersonTokenIndex index, Set<Person> matches);
+}
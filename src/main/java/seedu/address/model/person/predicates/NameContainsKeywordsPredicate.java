@@ -1,16 +1,17 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -23,6 +24,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public void addMatches(PersonTokenIndex index, Set<Person> matches) {
+        for (String keyword : keywords) {
+            matches.addAll(index.getPersonsWithNameWord(StringUtil.requireSingleWord(keyword)));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
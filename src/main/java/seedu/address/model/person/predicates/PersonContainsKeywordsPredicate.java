@@ -1,15 +1,16 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
 
 /**
  * Tests that a {@code Person}'s name or phone contains any of the keywords given.
  */
-public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+public class PersonContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final NameContainsKeywordsPredicate namePredicate;
     private final PhoneContainsKeywordsPredicate phonePredicate;
     private final EmailContainsKeywordsPredicate emailPredicate;
@@ -33,6 +34,13 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
                 || emailPredicate.test(person);
     }
 
+    @Override
+    public void addMatches(PersonTokenIndex index, Set<Person> matches) {
+        namePredicate.addMatches(index, matches);
+        phonePredicate.addMatches(index, matches);
+        emailPredicate.addMatches(index, matches);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
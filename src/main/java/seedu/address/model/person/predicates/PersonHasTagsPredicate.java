@@ -0,0 +1,110 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * Tests that a {@code Person} has all of some tags, at least one of some other tags, and none of a third set of tags.
+ * Empty sets of tags are left out of the test.
+ */
+public class PersonHasTagsPredicate implements Predicate<Person> {
+    private final Set<Tag> allTags;
+    private final Set<Tag> anyTags;
+    private final Set<Tag> noTags;
+
+    /**
+     * Constructs a {@code PersonHasTagsPredicate}.
+     *
+     * @param allTags Tags that a person must all have.
+     * @param anyTags Tags that a person must have at least one of, unless empty.
+     * @param noTags Tags that a person must not have.
+     */
+    public PersonHasTagsPredicate(Set<Tag> allTags, Set<Tag> anyTags, Set<Tag> noTags) {
+        requireAllNonNull(allTags, anyTags, noTags);
+        this.allTags = Set.copyOf(allTags);
+        this.anyTags = Set.copyOf(anyTags);
+        this.noTags = Set.copyOf(noTags);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> tags = person.getTags();
+        return tags.containsAll(allTags)
+                && (anyTags.isEmpty() || !Collections.disjoint(tags, anyTags))
+                && Collections.disjoint(tags, noTags);
+    }
+
+    /**
+     * Returns true if the persons that satisfy this predicate can be looked up in a {@code TagRegistry}, which is
+     * when they must have at least one tag.
+     */
+    public boolean isIndexed() {
+        return !allTags.isEmpty() || !anyTags.isEmpty();
+    }
+
+    /**
+     * Adds the persons in {@code registry} that satisfy this predicate to {@code matches}.
+     * Only the persons with the rarest of the tags that must all be there, or else with any of the tags of which one
+     * must be there, are tested.
+     * This predicate must be {@link #isIndexed() indexed}.
+     */
+    public void addMatches(TagRegistry registry, Set<Person> matches) {
+        assert isIndexed();
+        if (allTags.isEmpty()) {
+            for (Tag tag : anyTags) {
+                addMatches(registry.getPersons(tag), matches);
+            }
+            return;
+        }
+
+        Set<Person> rarest = null;
+        for (Tag tag : allTags) {
+            Set<Person> persons = registry.getPersons(tag);
+            if (rarest == null || persons.size() < rarest.size()) {
+                rarest = persons;
+            }
+        }
+        addMatches(rarest, matches);
+    }
+
+    private void addMatches(Set<Person> candidates, Set<Person> matches) {
+        for (Person person : candidates) {
+            if (test(person)) {
+                matches.add(person);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonHasTagsPredicate)) {
+            return false;
+        }
+
+        PersonHasTagsPredicate otherPredicate = (PersonHasTagsPredicate) other;
+        return allTags.equals(otherPredicate.allTags)
+                && anyTags.equals(otherPredicate.anyTags)
+                && noTags.equals(otherPredicate.noTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("allTags", allTags)
+                .add("anyTags", anyTags)
+                .add("noTags", noTags)
+                .toString();
+    }
+}
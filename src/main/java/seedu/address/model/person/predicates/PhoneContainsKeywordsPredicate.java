@@ -1,15 +1,16 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +23,13 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> person.getPhone().value.equals(keyword));
     }
 
+    @Override
+    public void addMatches(PersonTokenIndex index, Set<Person> matches) {
+        for (String keyword : keywords) {
+            matches.addAll(index.getPersonsWithPhone(keyword));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
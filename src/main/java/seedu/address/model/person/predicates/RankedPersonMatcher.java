@@ -0,0 +1,57 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests and ranks persons by how well they match keywords, by searching a {@code PersonSearchIndex}.
+ */
+public class RankedPersonMatcher extends CachedIndexMatcher<PersonSearchIndex> {
+
+    private final List<String> keywords;
+    private final Map<Person, Integer> ranks;
+
+    /**
+     * Creates a {@code RankedPersonMatcher} with the persons in {@code index} matching {@code keywords}.
+     */
+    public RankedPersonMatcher(List<String> keywords, PersonSearchIndex index) {
+        super(index, PersonSearchIndex::getVersion);
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+        ranks = index.search(this.keywords);
+    }
+
+    /**
+     * Returns the rank of {@code person}, which is lower for better matches, or
+     * {@link PersonSearchIndex#RANK_NONE} if the person does not match.
+     */
+    public int getRank(Person person) {
+        if (!isIndexUnchanged()) {
+            return PersonSearchIndex.getRank(person, keywords);
+        }
+        return ranks.getOrDefault(person, PersonSearchIndex.RANK_NONE);
+    }
+
+    /**
+     * Returns a comparator that orders persons from the best match to the worst.
+     */
+    public Comparator<Person> getComparator() {
+        return Comparator.comparingInt(this::getRank);
+    }
+
+    @Override
+    protected boolean isCachedMatch(Person person) {
+        return ranks.containsKey(person);
+    }
+
+    @Override
+    protected boolean isDirectMatch(Person person) {
+        return PersonSearchIndex.getRank(person, keywords) != PersonSearchIndex.RANK_NONE;
+    }
+}
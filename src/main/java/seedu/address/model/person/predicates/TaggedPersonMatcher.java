@@ -0,0 +1,40 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * Tests persons against a {@code PersonHasTagsPredicate} by looking up all of its matches in a {@code TagRegistry}.
+ */
+public class TaggedPersonMatcher extends CachedIndexMatcher<TagRegistry> {
+
+    private final PersonHasTagsPredicate predicate;
+    private final Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a {@code TaggedPersonMatcher} with the matches of {@code predicate} in {@code registry}.
+     * {@code predicate} must be {@link PersonHasTagsPredicate#isIndexed() indexed}.
+     */
+    public TaggedPersonMatcher(PersonHasTagsPredicate predicate, TagRegistry registry) {
+        super(registry, TagRegistry::getVersion);
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        predicate.addMatches(registry, matches);
+    }
+
+    @Override
+    protected boolean isCachedMatch(Person person) {
+        return matches.contains(person);
+    }
+
+    @Override
+    protected boolean isDirectMatch(Person person) {
+        return predicate.test(person);
+    }
+}
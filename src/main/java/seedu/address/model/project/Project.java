@@ -3,22 +3,25 @@ package seedu.address.model.project;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
 import seedu.address.model.priority.Priority;
 
 /**
  * Represents a project in the address book.
+ * Members are stored by their person ids, so editing a member does not change the project.
  * Guarantees: details are non-null and validated where applicable; immutable where possible.
  */
 public class Project {
     private String name;
     private Priority priority;
     private LocalDate deadline;
-    private Set<Person> members;
+    /** Ids of the members, sorted in ascending order without duplicates. */
+    private final int[] memberIds;
 
     /**
      * Constructs a {@code Project}.
@@ -26,13 +29,17 @@ public class Project {
      * @param name     project name
      * @param priority project priority
      * @param deadline project deadline
-     * @param members  project members
+     * @param members  project members, whose ids have been assigned by the address book
      */
     public Project(String name, Priority priority, LocalDate deadline, Set<Person> members) {
+        this(name, priority, deadline, members.stream().mapToInt(Person::getId).sorted().distinct().toArray());
+    }
+
+    private Project(String name, Priority priority, LocalDate deadline, int[] memberIds) {
         this.name = name;
         this.priority = priority;
         this.deadline = deadline;
-        this.members = members;
+        this.memberIds = memberIds;
     }
 
     /** Returns the project name. */
@@ -64,6 +71,14 @@ public class Project {
                 && otherProject.getName().equalsIgnoreCase(getName());
     }
 
+    /**
+     * Returns the key under which a project named {@code name} is identified.
+     * Two names have the same key exactly when they are equal ignoring case, matching {@link #isSameProject(Project)}.
+     */
+    public static String toIdentityKey(String name) {
+        return StringUtil.toCaseInsensitiveKey(name);
+    }
+
     /** Returns true if all fields are equal. */
     @Override
     public boolean equals(Object other) {
@@ -80,42 +95,68 @@ public class Project {
         return name.equals(otherProject.name)
                 && priority.equals(otherProject.priority)
                 && deadline.equals(otherProject.deadline)
-                && members.equals(otherProject.members);
+                && Arrays.equals(memberIds, otherProject.memberIds);
     }
 
     public int hashCode() {
-        return Objects.hash(name, priority, deadline, members);
+        return Objects.hash(name, priority, deadline, Arrays.hashCode(memberIds));
+    }
+
+    /** Returns the ids of the members of the project, in ascending order. */
+    public int[] getMemberIds() {
+        return memberIds.clone();
+    }
+
+    /** Returns the number of members of the project. */
+    public int getMemberCount() {
+        return memberIds.length;
     }
 
-    /** Returns members of the project. */
-    public Set<Person> getMembers() {
-        return java.util.Collections.unmodifiableSet(members);
+    /** Returns true if {@code person} is a member of this project. */
+    public boolean hasMember(Person person) {
+        requireNonNull(person);
+        return Arrays.binarySearch(memberIds, person.getId()) >= 0;
     }
 
     /**
-     * Removes a member from this project.
-     *
-     * @param person the person to remove
-     * @return true if the member was present and removed; false otherwise
+     * Returns a copy of this project with {@code person} added as a member.
      */
-    public boolean deleteMember(Person person) {
+    public Project withMember(Person person) {
         requireNonNull(person);
-        return members.remove(person);
+        int position = Arrays.binarySearch(memberIds, person.getId());
+        if (position >= 0) {
+            return this;
+        }
+
+        int insertAt = -position - 1;
+        int[] updatedIds = new int[memberIds.length + 1];
+        System.arraycopy(memberIds, 0, updatedIds, 0, insertAt);
+        updatedIds[insertAt] = person.getId();
+        System.arraycopy(memberIds, insertAt, updatedIds, insertAt + 1, memberIds.length - insertAt);
+        return new Project(name, priority, deadline, updatedIds);
     }
 
     /**
-     * Updates a member with new details.
+     * Returns a copy of this project without {@code person} as a member.
      */
-    public Project updateMember(Person oldPerson, Person newPerson) {
-        requireNonNull(oldPerson);
-        requireNonNull(newPerson);
-
-        Set<Person> updatedMembers = new HashSet<>(members);
-        if (updatedMembers.remove(oldPerson)) {
-            updatedMembers.add(newPerson);
+    public Project withoutMember(Person person) {
+        requireNonNull(person);
+        int position = Arrays.binarySearch(memberIds, person.getId());
+        if (position < 0) {
+            return this;
         }
 
-        return new Project(name, priority, deadline, updatedMembers);
+        int[] updatedIds = new int[memberIds.length - 1];
+        System.arraycopy(memberIds, 0, updatedIds, 0, position);
+        System.arraycopy(memberIds, position + 1, updatedIds, position, memberIds.length - position - 1);
+        return new Project(name, priority, deadline, updatedIds);
+    }
+
+    /**
+     * Returns a copy of this project with the given details and the same members.
+     */
+    public Project withDetails(String name, Priority priority, LocalDate deadline) {
+        return new Project(name, priority, deadline, memberIds);
     }
 
     @Override
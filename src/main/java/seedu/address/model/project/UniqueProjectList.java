@@ -3,12 +3,16 @@ package seedu.address.model.project;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.model.person.Person;
 import seedu.address.model.project.exceptions.DuplicateProjectException;
 import seedu.address.model.project.exceptions.ProjectNotFoundException;
 
@@ -17,18 +21,29 @@ import seedu.address.model.project.exceptions.ProjectNotFoundException;
 /**
  * A list of projects that enforces uniqueness by {@code Project#isSameProject(Project)}.
  * Supports minimal list operations and provides an unmodifiable observable view of the list.
+ * Projects are additionally indexed by {@link Project#toIdentityKey(String)} so that identity checks and
+ * case-insensitive lookups by name run in constant time.
  */
 public class UniqueProjectList implements Iterable<Project> {
     private final ObservableList<Project> internalList = FXCollections.observableArrayList();
     private final ObservableList<Project> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Project> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent project as the given argument.
      */
     public boolean contains(Project toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProject);
+        return nameIndex.containsKey(Project.toIdentityKey(toCheck.getName()));
+    }
+
+    /**
+     * Returns the project whose name equals {@code name} ignoring case, or null if there is no such project.
+     */
+    public Project getProjectByName(String name) {
+        requireNonNull(name);
+        return nameIndex.get(Project.toIdentityKey(name));
     }
 
     /**
@@ -41,6 +56,7 @@ public class UniqueProjectList implements Iterable<Project> {
             throw new DuplicateProjectException();
         }
         internalList.add(toAdd);
+        nameIndex.put(Project.toIdentityKey(toAdd.getName()), toAdd);
     }
 
     /**
@@ -61,6 +77,8 @@ public class UniqueProjectList implements Iterable<Project> {
         }
 
         internalList.set(index, editedProject);
+        nameIndex.remove(Project.toIdentityKey(target.getName()));
+        nameIndex.put(Project.toIdentityKey(editedProject.getName()), editedProject);
     }
 
     /**
@@ -72,11 +90,14 @@ public class UniqueProjectList implements Iterable<Project> {
         if (!internalList.remove(toRemove)) {
             throw new ProjectNotFoundException();
         }
+        nameIndex.remove(Project.toIdentityKey(toRemove.getName()));
     }
 
     public void setProjects(UniqueProjectList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
     }
 
     /**
@@ -85,11 +106,11 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void setProjects(List<Project> projects) {
         requireAllNonNull(projects);
-        if (!projectsAreUnique(projects)) {
-            throw new DuplicateProjectException();
-        }
+        Map<String, Project> replacementIndex = indexByIdentity(projects);
 
         internalList.setAll(projects);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
     }
 
     /**
@@ -130,41 +151,23 @@ public class UniqueProjectList implements Iterable<Project> {
     }
 
     /**
-     * Returns true if {@code projects} contains only unique projects.
-     */
-    private boolean projectsAreUnique(List<Project> projects) {
-        for (int i = 0; i < projects.size() - 1; i++) {
-            for (int j = i + 1; j < projects.size(); j++) {
-                if (projects.get(i).isSameProject(projects.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Removes the given member from all projects in the list.
+     * Returns {@code projects} indexed by identity key, built in a single pass.
      *
-     * @param member The member to be removed.
+     * @throws DuplicateProjectException naming every project that occurs more than once in {@code projects}.
      */
-    public void removeMemberFromAll(Person member) {
-        requireNonNull(member);
-
-        for (int i = 0; i < internalList.size(); i++) {
-            Project p = internalList.get(i);
-            if (p.getMembers().contains(member)) {
-                java.util.Set<Person> newMembers = new java.util.HashSet<>(p.getMembers());
-                newMembers.remove(member);
-
-                Project updated = new Project(
-                        p.getName(),
-                        p.getPriority(),
-                        p.getDeadline(),
-                        newMembers
-                );
-                internalList.set(i, updated);
+    private static Map<String, Project> indexByIdentity(List<Project> projects) {
+        Map<String, Project> index = new HashMap<>();
+        Set<String> duplicateKeys = new HashSet<>();
+        List<String> duplicateNames = new ArrayList<>();
+        for (Project project : projects) {
+            String key = Project.toIdentityKey(project.getName());
+            if (index.putIfAbsent(key, project) != null && duplicateKeys.add(key)) {
+                duplicateNames.add(project.getName());
             }
         }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateProjectException(duplicateNames);
+        }
+        return index;
     }
 }
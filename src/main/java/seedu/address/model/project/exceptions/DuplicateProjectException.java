@@ -1,5 +1,7 @@
 package seedu.address.model.project.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation would result in duplicate projects.
  */
@@ -7,4 +9,11 @@ public class DuplicateProjectException extends RuntimeException {
     public DuplicateProjectException() {
         super("Operation would result in duplicate projects");
     }
+
+    /**
+     * Creates a {@code DuplicateProjectException} that names every duplicated project in {@code duplicateNames}.
+     */
+    public DuplicateProjectException(Collection<String> duplicateNames) {
+        super("Operation would result in duplicate projects: " + String.join(", ", duplicateNames));
+    }
 }
@@ -0,0 +1,156 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The tags of all persons in an address book, each with the persons that have it.
+ * Every tag name is held by a single {@code Tag} instance, which persons are made to share by {@link #intern(Person)}
+ * before they are added, or by {@link #intern(Person, Map)} before they replace all persons. A tag leaves the
+ * registry once no person has it anymore.
+ */
+public class TagRegistry {
+
+    private final Map<Tag, Entry> entries = new HashMap<>();
+    private long version = 0;
+
+    /**
+     * Returns {@code person} if all of its tags are the instances held by this registry or not in it yet, or else a
+     * copy of {@code person} that has those instances instead.
+     */
+    public Person intern(Person person) {
+        requireNonNull(person);
+        return intern(person, this::intern);
+    }
+
+    /**
+     * Returns {@code person} if all of its tags are the instances in {@code tagInstances} or not in it yet, or else a
+     * copy of {@code person} that has those instances instead. Tags not in {@code tagInstances} yet are added to it.
+     */
+    public static Person intern(Person person, Map<Tag, Tag> tagInstances) {
+        requireNonNull(person);
+        requireNonNull(tagInstances);
+        return intern(person, tag -> {
+            Tag instance = tagInstances.putIfAbsent(tag, tag);
+            return instance == null ? tag : instance;
+        });
+    }
+
+    private static Person intern(Person person, UnaryOperator<Tag> instances) {
+        Set<Tag> tags = person.getTags();
+        Set<Tag> internedTags = null;
+        for (Tag tag : tags) {
+            Tag instance = instances.apply(tag);
+            if (instance != tag && internedTags == null) {
+                internedTags = new HashSet<>();
+            }
+            if (internedTags != null) {
+                internedTags.add(instance);
+            }
+        }
+        if (internedTags == null) {
+            return person;
+        }
+
+        // Tags looked at before the first one that had to be replaced are already the right instances
+        for (Tag tag : tags) {
+            internedTags.add(tag);
+        }
+        return person.withTags(internedTags);
+    }
+
+    /**
+     * Returns the instance of {@code tag} held by this registry, or {@code tag} itself if no person has it.
+     */
+    public Tag intern(Tag tag) {
+        requireNonNull(tag);
+        Entry entry = entries.get(tag);
+        return entry == null ? tag : entry.tag;
+    }
+
+    /**
+     * Adds {@code person} to the persons of each of its tags.
+     * Tags not in the registry yet are added with the instances that {@code person} has.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            entries.computeIfAbsent(tag, Entry::new).persons.add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, the same instance that was added, from the persons of each of its tags.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Entry entry = entries.get(tag);
+            if (entry != null) {
+                entry.persons.remove(person);
+                if (entry.persons.isEmpty()) {
+                    entries.remove(tag);
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this registry with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        entries.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the persons that have {@code tag}, as an unmodifiable set compared by identity.
+     */
+    public Set<Person> getPersons(Tag tag) {
+        requireNonNull(tag);
+        Entry entry = entries.get(tag);
+        return entry == null ? Collections.emptySet() : Collections.unmodifiableSet(entry.persons);
+    }
+
+    /**
+     * Returns the tags that at least one person has.
+     */
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns a counter that increases every time this registry is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * The instance held for a tag name, and the persons that have the tag.
+     */
+    private static class Entry {
+        private final Tag tag;
+        private final Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Entry(Tag tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Discord;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Instagram;
+import seedu.address.model.person.LinkedIn;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Socials;
+import seedu.address.model.person.YouTube;
+import seedu.address.model.priority.Priority;
+import seedu.address.model.project.Project;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any size with randomly chosen details, e.g. for load testing.
+ * The same seed and settings always generate the same address book.
+ */
+public class SyntheticAddressBookGenerator {
+
+    public static final int DEFAULT_PERSON_COUNT = 1000;
+    public static final int DEFAULT_PROJECT_COUNT = 20;
+    public static final int DEFAULT_TAG_COUNT = 20;
+    public static final double DEFAULT_SOCIALS_DENSITY = 0.5;
+    public static final double DEFAULT_MEMBERSHIP_DENSITY = 0.01;
+
+    private static final int MAX_TAGS_PER_PERSON = 3;
+    private static final LocalDate FIRST_DEADLINE = LocalDate.of(2026, 1, 1);
+    private static final int DEADLINE_RANGE_IN_DAYS = 730;
+
+    private final long seed;
+    private int personCount = DEFAULT_PERSON_COUNT;
+    private int projectCount = DEFAULT_PROJECT_COUNT;
+    private int tagCount = DEFAULT_TAG_COUNT;
+    private double socialsDensity = DEFAULT_SOCIALS_DENSITY;
+    private double membershipDensity = DEFAULT_MEMBERSHIP_DENSITY;
+
+    /**
+     * Creates a {@code SyntheticAddressBookGenerator} with the default settings that makes its random choices from
+     * {@code seed}.
+     */
+    public SyntheticAddressBookGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of persons in the generated address book.
+     */
+    public SyntheticAddressBookGenerator withPersons(int personCount) {
+        checkArgument(personCount >= 0, "Person count must not be negative");
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of projects in the generated address book.
+     */
+    public SyntheticAddressBookGenerator withProjects(int projectCount) {
+        checkArgument(projectCount >= 0, "Project count must not be negative");
+        this.projectCount = projectCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of different tags that the persons are tagged with. Each person has up to
+     * {@value #MAX_TAGS_PER_PERSON} tags.
+     */
+    public SyntheticAddressBookGenerator withTags(int tagCount) {
+        checkArgument(tagCount >= 0, "Tag count must not be negative");
+        this.tagCount = tagCount;
+        return this;
+    }
+
+    /**
+     * Sets the chance, from 0 to 1, that a person has each of their social media accounts.
+     */
+    public SyntheticAddressBookGenerator withSocialsDensity(double socialsDensity) {
+        checkArgument(socialsDensity >= 0 && socialsDensity <= 1, "Socials density must be from 0 to 1");
+        this.socialsDensity = socialsDensity;
+        return this;
+    }
+
+    /**
+     * Sets the chance, from 0 to 1, that a person is a member of each project.
+     */
+    public SyntheticAddressBookGenerator withMembershipDensity(double membershipDensity) {
+        checkArgument(membershipDensity >= 0 && membershipDensity <= 1, "Membership density must be from 0 to 1");
+        this.membershipDensity = membershipDensity;
+        return this;
+    }
+
+    /**
+     * Returns a new address book with the settings of this generator.
+     */
+    public AddressBook generate() {
+        Random random = new Random(seed);
+        String[] tagNames = getTagNames(tagCount);
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(generatePerson(i, random, tagNames));
+        }
+
+        // Projects refer to the persons with the ids assigned by the address book
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < projectCount; i++) {
+            Priority priority = Priority.values()[random.nextInt(Priority.values().length)];
+            LocalDate deadline = FIRST_DEADLINE.plusDays(random.nextInt(DEADLINE_RANGE_IN_DAYS));
+            addressBook.addProject(new Project("Project " + (i + 1), priority, deadline,
+                    chooseMembers(persons, random)));
+        }
+        return addressBook;
+    }
+
+    private Person generatePerson(int index, Random random, String[] tagNames) {
+        String firstName = SyntheticDataUtil.FIRST_NAMES[random.nextInt(SyntheticDataUtil.FIRST_NAMES.length)];
+        String lastName = SyntheticDataUtil.LAST_NAMES[random.nextInt(SyntheticDataUtil.LAST_NAMES.length)];
+        // The index keeps names and handles unique
+        String handle = (firstName + lastName).toLowerCase() + index;
+
+        Socials socials = new Socials(
+                random.nextDouble() < socialsDensity ? new Discord(handle) : null,
+                random.nextDouble() < socialsDensity ? new LinkedIn("linkedin.com/in/" + handle) : null,
+                random.nextDouble() < socialsDensity ? new Instagram("@" + handle) : null,
+                random.nextDouble() < socialsDensity ? new YouTube("youtube.com/@" + handle) : null);
+
+        Set<Tag> tags = new HashSet<>();
+        if (tagNames.length > 0) {
+            int personTagCount = random.nextInt(MAX_TAGS_PER_PERSON + 1);
+            for (int i = 0; i < personTagCount; i++) {
+                tags.add(new Tag(tagNames[random.nextInt(tagNames.length)]));
+            }
+        }
+
+        String street = SyntheticDataUtil.STREETS[random.nextInt(SyntheticDataUtil.STREETS.length)];
+        String priority = SyntheticDataUtil.PRIORITIES[random.nextInt(SyntheticDataUtil.PRIORITIES.length)];
+        return new Person(new Name(firstName + " " + lastName + " " + index),
+                new Phone(Integer.toString(80000000 + random.nextInt(20000000))),
+                new Email(handle + "@example.com"),
+                socials,
+                new Address("Blk " + (random.nextInt(999) + 1) + " " + street + ", #"
+                        + (random.nextInt(30) + 1) + "-" + (random.nextInt(90) + 10)),
+                new seedu.address.model.person.Priority(priority),
+                tags);
+    }
+
+    /**
+     * Returns the persons that are members of a project, each chosen with a chance of the membership density.
+     */
+    private Set<Person> chooseMembers(List<Person> persons, Random random) {
+        Set<Person> members = new HashSet<>();
+        if (membershipDensity == 1) {
+            members.addAll(persons);
+            return members;
+        }
+        double logOfMiss = Math.log1p(-membershipDensity);
+        if (logOfMiss == 0) {
+            return members;
+        }
+
+        // Skips over the persons that are not chosen, with the number skipped following a geometric distribution,
+        // so that sparse memberships do not need a random number for every person
+        long index = -1;
+        while (true) {
+            index += 1 + (long) (Math.log(1 - random.nextDouble()) / logOfMiss);
+            if (index >= persons.size()) {
+                return members;
+            }
+            members.add(persons.get((int) index));
+        }
+    }
+
+    private static String[] getTagNames(int tagCount) {
+        String[] tagNames = new String[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tagNames[i] = i < SyntheticDataUtil.TAGS.length ? SyntheticDataUtil.TAGS[i] : "topic" + i;
+        }
+        return tagNames;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Discord;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Instagram;
+import seedu.address.model.person.LinkedIn;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Priority;
+import seedu.address.model.person.Socials;
+import seedu.address.model.person.YouTube;
+
+/**
+ * Contains utility methods for populating {@code AddressBook} with any number of generated persons, e.g. for
+ * measuring performance. The person at each index is always the same, and no two persons have the same name.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei",
+        "Siti", "Arjun", "Mei", "Hafiz", "Priya", "Jun", "Nur", "Ravi", "Li"};
+    static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Kumar", "Wong", "Rahman", "Nair", "Chen", "Ong", "Singh", "Goh"};
+    static final String[] STREETS = {"Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street 74",
+        "Tampines Street 20", "Aljunied Street 85", "Clementi Ave 2"};
+    static final String[] TAGS = {"friends", "colleagues", "neighbours", "family", "classmates", "clients",
+        "sponsors", "editors"};
+    static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    /**
+     * Returns the generated person at {@code index}, which must not be negative.
+     * Every second person has a second tag, and every third person has no social media accounts.
+     */
+    public static Person getSyntheticPerson(int index) {
+        String firstName = FIRST_NAMES[index % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[index / FIRST_NAMES.length % LAST_NAMES.length];
+        String handle = (firstName + lastName).toLowerCase() + index;
+
+        Socials socials = index % 3 == 0
+                ? new Socials(null, null, null, null)
+                : new Socials(new Discord(handle), new LinkedIn("linkedin.com/in/" + handle),
+                        new Instagram("@" + handle), new YouTube("youtube.com/@" + handle));
+        String tag = TAGS[index % TAGS.length];
+
+        return new Person(new Name(firstName + " " + lastName + " " + index),
+                new Phone(Integer.toString(80000000 + index % 20000000)),
+                new Email(handle + "@example.com"),
+                socials,
+                new Address("Blk " + (index % 999 + 1) + " " + STREETS[index % STREETS.length]),
+                new Priority(PRIORITIES[index % PRIORITIES.length]),
+                index % 2 == 0 ? getTagSet(tag) : getTagSet(tag, TAGS[(index + 1) % TAGS.length]));
+    }
+
+    /**
+     * Returns the first {@code count} generated persons.
+     */
+    public static Person[] getSyntheticPersons(int count) {
+        Person[] persons = new Person[count];
+        for (int i = 0; i < count; i++) {
+            persons[i] = getSyntheticPerson(i);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book with the first {@code count} generated persons.
+     */
+    public static ReadOnlyAddressBook getSyntheticAddressBook(int count) {
+        AddressBook syntheticAb = new AddressBook();
+        for (Person syntheticPerson : getSyntheticPersons(count)) {
+            syntheticAb.addPerson(syntheticPerson);
+        }
+        return syntheticAb;
+    }
+}
@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Discord;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Instagram;
+import seedu.address.model.person.LinkedIn;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Priority;
+import seedu.address.model.person.Socials;
+import seedu.address.model.person.YouTube;
+import seedu.address.model.project.Project;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a json file, together with a binary snapshot of the same data that
+ * is much faster to load.
+ * The json file stays the format that can be read and edited by hand. The snapshot is only used while the json file
+ * has not changed since the snapshot was saved, and is ignored if it fails its checksum.
+ * <p>
+ * The snapshot holds every distinct string once in a string table, which persons and projects refer to by index.
+ * Values that many persons share, such as tags, priorities and email domains, are therefore stored and converted
+ * into model objects only once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String SNAPSHOT_FILE_SUFFIX = ".bin";
+    private static final int MAGIC_NUMBER = 0x49445831; // "IDX1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+    private final JsonAddressBookStorage jsonStorage;
+
+    public BinaryAddressBookStorage(JsonAddressBookStorage jsonStorage) {
+        requireNonNull(jsonStorage);
+        this.jsonStorage = jsonStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return jsonStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept for the json file at {@code filePath}.
+     */
+    public static Path getSnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = readSnapshot(getAddressBookFilePath());
+        return snapshot.isPresent() ? snapshot : jsonStorage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = readSnapshot(filePath);
+        return snapshot.isPresent() ? snapshot : jsonStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Returns the address book in the snapshot of the json file at {@code filePath}, or {@code Optional.empty()} if
+     * there is no snapshot, or it is out of date or damaged.
+     */
+    Optional<ReadOnlyAddressBook> readSnapshot(Path filePath) {
+        Path snapshotFilePath = getSnapshotFilePath(filePath);
+        if (!FileUtil.isFileExists(snapshotFilePath) || !FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotFilePath));
+            if (!hasValidChecksum(buffer)) {
+                logger.warning("Ignoring snapshot " + snapshotFilePath + " as its checksum does not match");
+                return Optional.empty();
+            }
+            if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION) {
+                logger.info("Ignoring snapshot " + snapshotFilePath + " as it is not in a supported format");
+                return Optional.empty();
+            }
+            if (buffer.getLong() != Files.size(filePath)
+                    || buffer.getLong() != Files.getLastModifiedTime(filePath).toMillis()) {
+                logger.info("Ignoring snapshot " + snapshotFilePath + " as " + filePath + " has changed since");
+                return Optional.empty();
+            }
+
+            logger.info("Snapshot file " + snapshotFilePath + " found.");
+            return Optional.of(readAddressBook(buffer));
+        } catch (IOException | RuntimeException e) {
+            // The model's constraints are still checked, so a snapshot that breaks them is rejected here
+            logger.warning("Error reading from snapshot file " + snapshotFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    private static boolean hasValidChecksum(ByteBuffer buffer) {
+        int dataLength = buffer.limit() - CHECKSUM_LENGTH;
+        if (dataLength < 0) {
+            return false;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, dataLength);
+        return buffer.getLong(dataLength) == checksum.getValue();
+    }
+
+    private static AddressBook readAddressBook(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        ValueTable<Name> names = new ValueTable<>(strings, Name::new);
+        ValueTable<Phone> phones = new ValueTable<>(strings, Phone::new);
+        ValueTable<Discord> discords = new ValueTable<>(strings, Discord::new);
+        ValueTable<LinkedIn> linkedIns = new ValueTable<>(strings, LinkedIn::new);
+        ValueTable<Instagram> instagrams = new ValueTable<>(strings, Instagram::new);
+        ValueTable<YouTube> youTubes = new ValueTable<>(strings, YouTube::new);
+        ValueTable<Address> addresses = new ValueTable<>(strings, Address::new);
+        ValueTable<Priority> priorities = new ValueTable<>(strings, Priority::new);
+        ValueTable<Tag> tags = new ValueTable<>(strings, Tag::new);
+
+        int personCount = buffer.getInt();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Name name = names.get(buffer.getInt());
+            Phone phone = phones.get(buffer.getInt());
+            Email email = new Email(strings[buffer.getInt()] + strings[buffer.getInt()]);
+            Socials socials = new Socials(discords.get(buffer.getInt()), linkedIns.get(buffer.getInt()),
+                    instagrams.get(buffer.getInt()), youTubes.get(buffer.getInt()));
+            Address address = addresses.get(buffer.getInt());
+            Priority priority = priorities.get(buffer.getInt());
+            Set<Tag> personTags = new HashSet<>();
+            for (int tagCount = buffer.getInt(); tagCount > 0; tagCount--) {
+                personTags.add(tags.get(buffer.getInt()));
+            }
+            persons.add(new Person(name, phone, email, socials, address, priority, personTags));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        List<Person> storedPersons = addressBook.getPersonList();
+
+        List<Project> projects = new ArrayList<>();
+        for (int projectCount = buffer.getInt(); projectCount > 0; projectCount--) {
+            String name = strings[buffer.getInt()];
+            seedu.address.model.priority.Priority priority =
+                    seedu.address.model.priority.Priority.valueOf(strings[buffer.getInt()]);
+            LocalDate deadline = LocalDate.ofEpochDay(buffer.getLong());
+            Set<Person> members = new HashSet<>();
+            for (int memberCount = buffer.getInt(); memberCount > 0; memberCount--) {
+                members.add(storedPersons.get(buffer.getInt()));
+            }
+            projects.add(new Project(name, priority, deadline, members));
+        }
+        addressBook.setProjects(projects);
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} to the json file at {@code filePath}, then saves a snapshot of it.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        jsonStorage.saveAddressBook(addressBook, filePath);
+        long jsonFileSize = Files.size(filePath);
+        long jsonFileModifiedTime = Files.getLastModifiedTime(filePath).toMillis();
+        FileUtil.writeToFileAtomically(getSnapshotFilePath(filePath),
+                out -> writeSnapshot(addressBook, jsonFileSize, jsonFileModifiedTime, out), null);
+    }
+
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, long jsonFileSize, long jsonFileModifiedTime,
+            OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        Map<Integer, Integer> personIndices = new HashMap<>();
+        List<int[]> persons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            personIndices.put(person.getId(), persons.size());
+            persons.add(toStringIndices(person, strings));
+        }
+        List<Project> projects = addressBook.getProjectList();
+        for (Project project : projects) {
+            strings.indexOf(project.getName());
+            strings.indexOf(project.getPriority().name());
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC_NUMBER);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(jsonFileSize);
+        data.writeLong(jsonFileModifiedTime);
+
+        data.writeInt(strings.size());
+        for (String string : strings.getStrings()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        data.writeInt(persons.size());
+        for (int[] person : persons) {
+            for (int index : person) {
+                data.writeInt(index);
+            }
+        }
+
+        data.writeInt(projects.size());
+        for (Project project : projects) {
+            data.writeInt(strings.indexOf(project.getName()));
+            data.writeInt(strings.indexOf(project.getPriority().name()));
+            data.writeLong(project.getDeadline().toEpochDay());
+            List<Integer> members = new ArrayList<>();
+            for (int memberId : project.getMemberIds()) {
+                Integer memberIndex = personIndices.get(memberId);
+                if (memberIndex != null) {
+                    members.add(memberIndex);
+                }
+            }
+            data.writeInt(members.size());
+            for (int memberIndex : members) {
+                data.writeInt(memberIndex);
+            }
+        }
+        data.flush();
+
+        new DataOutputStream(out).writeLong(checkedOut.getChecksum().getValue());
+    }
+
+    /**
+     * Returns the fields of {@code person} as indices into {@code strings}, in the order they are saved.
+     */
+    private static int[] toStringIndices(Person person, StringTable strings) {
+        String email = person.getEmail().value;
+        int domainStart = email.lastIndexOf('@') < 0 ? email.length() : email.lastIndexOf('@');
+        Socials socials = person.getSocials();
+
+        int[] indices = new int[11 + person.getTags().size()];
+        indices[0] = strings.indexOf(person.getName().fullName);
+        indices[1] = strings.indexOf(person.getPhone().value);
+        indices[2] = strings.indexOf(email.substring(0, domainStart));
+        indices[3] = strings.indexOf(email.substring(domainStart));
+        indices[4] = strings.indexOf(socials.getDiscord().value);
+        indices[5] = strings.indexOf(socials.getLinkedIn().value);
+        indices[6] = strings.indexOf(socials.getInstagram().value);
+        indices[7] = strings.indexOf(socials.getYouTube().value);
+        indices[8] = strings.indexOf(person.getAddress().value);
+        indices[9] = strings.indexOf(person.getPriority().value);
+        indices[10] = person.getTags().size();
+        int i = 11;
+        for (Tag tag : person.getTags()) {
+            indices[i++] = strings.indexOf(tag.tagName);
+        }
+        return indices;
+    }
+
+    /**
+     * Assigns each distinct string an index, in the order the strings are first seen.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+        int indexOf(String string) {
+            return indices.computeIfAbsent(string, unused -> indices.size());
+        }
+
+        int size() {
+            return indices.size();
+        }
+
+        Iterable<String> getStrings() {
+            return indices.keySet();
+        }
+    }
+
+    /**
+     * Converts entries of a string table into model values, converting each entry at most once.
+     */
+    private static class ValueTable<T> {
+        private final String[] strings;
+        private final Function<String, T> converter;
+        private final Object[] values;
+
+        ValueTable(String[] strings, Function<String, T> converter) {
+            this.strings = strings;
+            this.converter = converter;
+            this.values = new Object[strings.length];
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            if (values[index] == null) {
+                values[index] = converter.apply(strings[index]);
+            }
+            return (T) values[index];
+        }
+    }
+
+}
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file plus a journal of the changes made since the snapshot.
+ * Each save appends one compact record per change recorded by the address book since the last save, so its cost
+ * depends on the size of the change rather than the size of the address book. The snapshot is rewritten, and the
+ * journal cleared, once the journal holds {@code snapshotInterval} records, or when the changes are not known.
+ * Reading loads the snapshot and replays the journal over it.
+ * <p>
+ * The journal starts with a header that identifies the snapshot it was started for, see
+ * {@link JsonAdaptedJournalHeader}. A journal whose header does not match the snapshot, such as one that was not
+ * cleared after a new snapshot was saved, is ignored, as its records may already be in the snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Version of an address book that is not known to be saved, lower than any version of a real address book. */
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int snapshotInterval;
+
+    // The version of the address book that the snapshot and journal at getAddressBookFilePath() hold
+    private long savedVersion = UNKNOWN_VERSION;
+    private int journalSize;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     *
+     * @param snapshotInterval the number of journal records after which a new snapshot is taken.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int snapshotInterval) {
+        this(snapshotStorage, getJournalFilePath(snapshotStorage.getAddressBookFilePath()), snapshotInterval);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}, and the
+     * journal for the snapshot at {@code snapshotStorage}'s file path in {@code journalFilePath}.
+     * A journal path that does not depend on the storage format keeps the journal in use when the format changes.
+     *
+     * @param snapshotInterval the number of journal records after which a new snapshot is taken.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, Path journalFilePath,
+            int snapshotInterval) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journalFilePath);
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = journalFilePath;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code filePath}, unless another journal path was
+     * given for it.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private Path getJournalFilePathFor(Path filePath) {
+        return filePath.equals(getAddressBookFilePath()) ? journalFilePath : getJournalFilePath(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        int replayedRecords = replayJournal(getJournalFilePathFor(filePath), filePath, addressBook);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            savedVersion = addressBook.getVersion();
+            // A journal that was not replayed in full cannot be appended to, so the next save takes a new snapshot
+            journalSize = replayedRecords >= 0 ? replayedRecords : snapshotInterval;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code addressBook}, which was read from the
+     * snapshot at {@code filePath}.
+     * A journal that was started for another snapshot is ignored. A damaged last record, as left behind by a save
+     * that was interrupted, is skipped.
+     *
+     * @return the number of records applied, or -1 if there is no journal for the snapshot or the last record was
+     *     skipped.
+     * @throws DataLoadingException if the journal cannot be read or any other record is invalid.
+     */
+    private static int replayJournal(Path journalFilePath, Path filePath, AddressBook addressBook)
+            throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return -1;
+        }
+        logger.info("Journal file " + journalFilePath + " found.");
+
+        int replayedRecords = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            if (!readHeader(reader).matchesSnapshotOf(filePath)) {
+                logger.warning("Ignoring journal file " + journalFilePath + " as it was not started for " + filePath);
+                return -1;
+            }
+
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    JsonAdaptedJournalRecord record;
+                    try {
+                        record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                    } catch (IOException e) {
+                        if (nextLine != null) {
+                            throw e;
+                        }
+                        logger.warning("Skipping incomplete last record in " + journalFilePath + ": " + e);
+                        return -1;
+                    }
+                    record.applyTo(addressBook);
+                    replayedRecords++;
+                }
+                line = nextLine;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | RuntimeException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        return replayedRecords;
+    }
+
+    /**
+     * Reads the header at the start of a journal, or returns a header that matches no snapshot if it is damaged.
+     */
+    private static JsonAdaptedJournalHeader readHeader(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        try {
+            return JsonUtil.fromJsonString(line == null ? "{}" : line, JsonAdaptedJournalHeader.class);
+        } catch (IOException e) {
+            return new JsonAdaptedJournalHeader(null, 0, 0);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}.
+     * Saves to any other path than {@link #getAddressBookFilePath()} are written as a snapshot with an empty journal.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            saveSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<AddressBookChange> changes = getChangesSinceSave(addressBook);
+        if (changes == null || journalSize + changes.size() > snapshotInterval) {
+            // If saving fails part way, the journal may no longer match the snapshot
+            journalSize = snapshotInterval;
+            saveSnapshot(addressBook, filePath);
+            journalSize = 0;
+        } else if (!changes.isEmpty()) {
+            int appendedJournalSize = journalSize + changes.size();
+            // If appending fails part way, the journal may end with a damaged record that must not be appended to
+            journalSize = snapshotInterval;
+            appendToJournal(journalFilePath, changes);
+            journalSize = appendedJournalSize;
+        }
+        savedVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Saves {@code addressBook} as a snapshot at {@code filePath}, and starts an empty journal for it.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        JsonAdaptedJournalHeader header = JsonAdaptedJournalHeader.of(filePath);
+        FileUtil.writeToFileAtomically(getJournalFilePathFor(filePath), out -> writeLines(out, List.of(header)), null);
+    }
+
+    private static void appendToJournal(Path journalFilePath, List<AddressBookChange> changes)
+            throws IOException {
+        // The journal was started with the last snapshot, so a missing journal is an error rather than created here
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writeLines(out, changes.stream().map(JournaledAddressBookStorage::toRecord).toList());
+            out.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes each of {@code values} to {@code out} as JSON on a line of its own.
+     */
+    private static void writeLines(OutputStream out, List<?> values) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, false)) {
+            for (Object value : values) {
+                generator.writeObject(value);
+                generator.flush();
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Returns the changes that turn the last saved address book into {@code addressBook}, or null if they are not
+     * known and a new snapshot has to be taken instead.
+     * Only the changes made since the last save are looked at, so this takes time in proportion to their number.
+     */
+    private List<AddressBookChange> getChangesSinceSave(ReadOnlyAddressBook addressBook) {
+        if (addressBook.getVersion() == savedVersion) {
+            return List.of();
+        }
+
+        List<AddressBookChange> recentChanges = addressBook.getRecentChanges();
+        for (int i = recentChanges.size() - 1; i >= 0; i--) {
+            if (recentChanges.get(i).getPreviousVersion() == savedVersion) {
+                return recentChanges.subList(i, recentChanges.size());
+            }
+        }
+        return null;
+    }
+
+    private static JsonAdaptedJournalRecord toRecord(AddressBookChange change) {
+        switch (change.getType()) {
+        case PUT_PERSON:
+            return JsonAdaptedJournalRecord.putPerson(change.getTarget(), change.getPerson());
+        case REMOVE_PERSON:
+            return JsonAdaptedJournalRecord.deletePerson(change.getTarget());
+        case PUT_PROJECT:
+            Map<Integer, String> memberNames = new HashMap<>();
+            for (Person member : change.getMembers()) {
+                memberNames.put(member.getId(), member.getName().fullName);
+            }
+            return JsonAdaptedJournalRecord.putProject(change.getTarget(),
+                    new JsonAdaptedProject(change.getProject(), memberNames));
+        case REMOVE_PROJECT:
+            return JsonAdaptedJournalRecord.deleteProject(change.getTarget());
+        default:
+            throw new IllegalArgumentException("Unknown change type: " + change.getType());
+        }
+    }
+
+}
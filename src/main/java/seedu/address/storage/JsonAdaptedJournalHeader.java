@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a journal of {@link JournaledAddressBookStorage}, which identifies
+ * the snapshot file that the records in the journal follow by its name, size and last modified time.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final String snapshotFileName;
+    private final long snapshotFileSize;
+    private final long snapshotFileModifiedTime;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot file details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotFileName") String snapshotFileName,
+            @JsonProperty("snapshotFileSize") long snapshotFileSize,
+            @JsonProperty("snapshotFileModifiedTime") long snapshotFileModifiedTime) {
+        this.snapshotFileName = snapshotFileName;
+        this.snapshotFileSize = snapshotFileSize;
+        this.snapshotFileModifiedTime = snapshotFileModifiedTime;
+    }
+
+    /**
+     * Returns a header for the snapshot file at {@code snapshotFilePath} as it is now.
+     */
+    static JsonAdaptedJournalHeader of(Path snapshotFilePath) throws IOException {
+        return new JsonAdaptedJournalHeader(snapshotFilePath.getFileName().toString(), Files.size(snapshotFilePath),
+                getModifiedTime(snapshotFilePath));
+    }
+
+    /**
+     * Returns true if the snapshot read for {@code filePath} is the unchanged snapshot file of this header.
+     * That is either the file at {@code filePath}, or, if there is none, the file next to it that was read instead,
+     * such as the same data saved in another format.
+     */
+    boolean matchesSnapshotOf(Path filePath) throws IOException {
+        if (snapshotFileName == null) {
+            return false;
+        }
+        Path snapshotFilePath = filePath.resolveSibling(snapshotFileName);
+        if (!snapshotFilePath.equals(filePath) && Files.exists(filePath)) {
+            return false;
+        }
+        return Files.exists(snapshotFilePath)
+                && Files.size(snapshotFilePath) == snapshotFileSize
+                && getModifiedTime(snapshotFilePath) == snapshotFileModifiedTime;
+    }
+
+    private static long getModifiedTime(Path filePath) throws IOException {
+        return Files.getLastModifiedTime(filePath).to(TimeUnit.NANOSECONDS);
+    }
+}
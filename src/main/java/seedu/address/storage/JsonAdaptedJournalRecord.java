@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.project.Project;
+
+/**
+ * Jackson-friendly version of a single change to an address book, as recorded in the journal of
+ * {@link JournaledAddressBookStorage}.
+ * Persons and projects are referred to by name, as ids are not saved.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_TARGET_NOT_FOUND = "Journal record's target %s is not found";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Type {
+        PUT_PERSON, DELETE_PERSON, PUT_PROJECT, DELETE_PROJECT
+    }
+
+    private final Type type;
+    /** Name of the person or project that is replaced or deleted, if any. */
+    private final String target;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedProject project;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type, @JsonProperty("target") String target,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("project") JsonAdaptedProject project) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.project = project;
+    }
+
+    /**
+     * Returns a record that adds {@code person}, or replaces the person named {@code target} with it if
+     * {@code target} is not null.
+     */
+    static JsonAdaptedJournalRecord putPerson(String target, Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalRecord(Type.PUT_PERSON, target, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record that deletes the person named {@code target}.
+     */
+    static JsonAdaptedJournalRecord deletePerson(String target) {
+        requireNonNull(target);
+        return new JsonAdaptedJournalRecord(Type.DELETE_PERSON, target, null, null);
+    }
+
+    /**
+     * Returns a record that adds {@code project}, or replaces the project named {@code target} with it if
+     * {@code target} is not null.
+     */
+    static JsonAdaptedJournalRecord putProject(String target, JsonAdaptedProject project) {
+        requireNonNull(project);
+        return new JsonAdaptedJournalRecord(Type.PUT_PROJECT, target, null, project);
+    }
+
+    /**
+     * Returns a record that deletes the project named {@code target}.
+     */
+    static JsonAdaptedJournalRecord deleteProject(String target) {
+        requireNonNull(target);
+        return new JsonAdaptedJournalRecord(Type.DELETE_PROJECT, target, null, null);
+    }
+
+    /**
+     * Applies this change to {@code addressBook}, which must be in the state the change was recorded in.
+     * Persons and projects are looked up by name, so applying a change twice is not safe.
+     *
+     * @throws IllegalValueException if the record is invalid or conflicts with the data in {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case PUT_PERSON:
+            putPersonInto(addressBook);
+            break;
+        case DELETE_PERSON:
+            Person deletedPerson = getTargetPerson(addressBook);
+            addressBook.removePerson(deletedPerson);
+            addressBook.removeMemberFromAllProjects(deletedPerson);
+            break;
+        case PUT_PROJECT:
+            putProjectInto(addressBook);
+            break;
+        case DELETE_PROJECT:
+            addressBook.removeProject(getTargetProject(addressBook));
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal record type: " + type);
+        }
+    }
+
+    private void putPersonInto(AddressBook addressBook) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        Person newPerson = person.toModelType();
+        Person existing = target == null ? null : getTargetPerson(addressBook);
+
+        boolean isNewName = existing == null || !existing.isSamePerson(newPerson);
+        if (isNewName && addressBook.hasPerson(newPerson)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } else if (existing == null) {
+            addressBook.addPerson(newPerson);
+        } else {
+            addressBook.setPerson(existing, newPerson);
+        }
+    }
+
+    private void putProjectInto(AddressBook addressBook) throws IllegalValueException {
+        if (project == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "project"));
+        }
+        Project newProject = JsonSerializableAddressBook.toProject(addressBook, project);
+        Project existing = target == null ? null : getTargetProject(addressBook);
+
+        boolean isNewName = existing == null || !existing.getName().equalsIgnoreCase(newProject.getName());
+        if (isNewName && addressBook.hasProject(newProject)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROJECT);
+        } else if (existing == null) {
+            addressBook.addProject(newProject);
+        } else {
+            addressBook.setProject(existing, newProject);
+        }
+    }
+
+    private String getTarget() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        return target;
+    }
+
+    private Person getTargetPerson(AddressBook addressBook) throws IllegalValueException {
+        String name = getTarget();
+        Person targetPerson = Name.isValidName(name) ? addressBook.getPersonByName(new Name(name)) : null;
+        if (targetPerson == null) {
+            throw new IllegalValueException(String.format(MESSAGE_TARGET_NOT_FOUND, name));
+        }
+        return targetPerson;
+    }
+
+    private Project getTargetProject(AddressBook addressBook) throws IllegalValueException {
+        Project targetProject = addressBook.getProjectByName(getTarget());
+        if (targetProject == null) {
+            throw new IllegalValueException(String.format(MESSAGE_TARGET_NOT_FOUND, target));
+        }
+        return targetProject;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -36,14 +37,23 @@ class JsonAdaptedProject {
         this.members = (members == null) ? new ArrayList<>() : new ArrayList<>(members);
     }
 
-    public JsonAdaptedProject(Project source) {
+    /**
+     * Converts a given {@code Project} into this class for Jackson use.
+     *
+     * @param memberNames names of the persons in the address book, keyed by person id.
+     */
+    public JsonAdaptedProject(Project source, Map<Integer, String> memberNames) {
         this.name = source.getName();
         this.priority = source.getPriority().name();
         this.deadline = source.getDeadline().toString();
 
-        this.members = source.getMembers().stream()
-                .map(p -> p.getName().fullName)
-                .collect(java.util.stream.Collectors.toList());
+        this.members = new ArrayList<>();
+        for (int memberId : source.getMemberIds()) {
+            String memberName = memberNames.get(memberId);
+            if (memberName != null) {
+                members.add(memberName);
+            }
+        }
     }
 
     /**
@@ -2,29 +2,70 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.project.Project;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person or project at a time, so the whole file is never held in memory.
+ * Saves replace the file atomically and keep the previous file as a backup, which is read instead if the file
+ * is missing or cannot be loaded.
+ * Files are saved in the configured {@link StorageFormat}; when reading, gzip-compressed files are recognised by
+ * their header, so a file saved in any format can be read back.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int PERSON_CHUNK_SIZE = 4 * JsonSerializableAddressBook.PARALLEL_THRESHOLD;
+
     private Path filePath;
+    private Path uncompressedFilePath;
+    private StorageFormat storageFormat;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
+        this(filePath, StorageFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} in {@code storageFormat}.
+     * Compressed files are saved with a {@code .gz} extension added to {@code filePath}.
+     */
+    public JsonAddressBookStorage(Path filePath, StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.filePath = storageFormat.resolveFilePath(filePath);
+        this.uncompressedFilePath = filePath;
+        this.storageFormat = storageFormat;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,27 +79,137 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If there is no data at {@link #getAddressBookFilePath()}, the data file that was saved in another format is
+     * read instead, as the data may not have been saved since the storage format was switched.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBookOrBackup(filePath);
+        if (addressBook.isPresent() || !filePath.equals(this.filePath)) {
+            return addressBook;
+        }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        Path otherFormatFilePath = filePath.equals(uncompressedFilePath)
+                ? StorageFormat.GZIP.resolveFilePath(filePath)
+                : uncompressedFilePath;
+        if (FileUtil.isFileExists(otherFormatFilePath)
+                || FileUtil.isFileExists(getBackupFilePath(otherFormatFilePath))) {
+            logger.warning(filePath + " is missing, reading " + otherFormatFilePath
+                    + " that was saved in another format instead");
+            return readAddressBookOrBackup(otherFormatFilePath);
         }
+        return addressBook;
+    }
 
+    /**
+     * Reads the data file at {@code filePath}, or its backup if the file is missing or cannot be loaded.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookOrBackup(Path filePath) throws DataLoadingException {
+        Path backupFilePath = getBackupFilePath(filePath);
+
+        Optional<ReadOnlyAddressBook> addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            addressBook = readAddressBookFile(filePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Could not load " + filePath + ", recovering from " + backupFilePath);
+            try {
+                return readAddressBookFile(backupFilePath);
+            } catch (DataLoadingException backupException) {
+                throw e;
+            }
+        }
+
+        if (addressBook.isEmpty() && FileUtil.isFileExists(backupFilePath)) {
+            logger.warning(filePath + " is missing, recovering from " + backupFilePath);
+            return readAddressBookFile(backupFilePath);
+        }
+        return addressBook;
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = openDataFile(filePath);
+                JsonParser parser = JsonUtil.createJsonParser(in)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Opens the data file at {@code filePath} for reading, decompressing it if it starts with the gzip header.
+     */
+    private static InputStream openDataFile(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+        try {
+            in.mark(2);
+            int header = in.read() | (in.read() << 8);
+            in.reset();
+            return header == GZIPInputStream.GZIP_MAGIC ? new BufferedInputStream(new GZIPInputStream(in)) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting persons in chunks of {@code PERSON_CHUNK_SIZE} as they
+     * are parsed, so that each chunk can be converted in parallel.
+     * Fields other than {@code persons} and {@code projects} are ignored.
+     *
+     * @throws IllegalValueException listing every invalid or duplicate person and project.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        Set<String> errors = new LinkedHashSet<>();
+        List<JsonAdaptedPerson> personChunk = new ArrayList<>();
+        // Projects refer to their members by name, so they are converted after all persons
+        List<JsonAdaptedProject> projects = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("persons".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    personChunk.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (personChunk.size() == PERSON_CHUNK_SIZE) {
+                        JsonSerializableAddressBook.addPersons(addressBook, personChunk, errors);
+                        personChunk.clear();
+                    }
+                }
+            } else if ("projects".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    projects.add(parser.readValueAs(JsonAdaptedProject.class));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        JsonSerializableAddressBook.addPersons(addressBook, personChunk, errors);
+        JsonSerializableAddressBook.addProjects(addressBook, projects, errors);
+        JsonSerializableAddressBook.checkNoErrors(errors);
+        return addressBook;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +224,58 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> writeAddressBook(addressBook, out, storageFormat),
+                getBackupFilePath(filePath));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in {@code storageFormat}.
+     */
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out,
+            StorageFormat storageFormat) throws IOException {
+        if (!storageFormat.isCompressed()) {
+            writeAddressBook(addressBook, out, storageFormat.isPretty());
+            return;
+        }
+
+        // finish() instead of close(), as out is closed by the caller
+        GZIPOutputStream compressedOut = new GZIPOutputStream(out);
+        writeAddressBook(addressBook, compressedOut, false);
+        compressedOut.finish();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the same format as {@link JsonSerializableAddressBook},
+     * converting one person or project at a time.
+     */
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPretty)
+            throws IOException {
+        Map<Integer, String> memberNames = JsonSerializableAddressBook.getMemberNames(addressBook);
+
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, isPretty)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("projects");
+            for (Project project : addressBook.getProjectList()) {
+                generator.writeObject(new JsonAdaptedProject(project, memberNames));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns the path of the backup kept for the data file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
     }
 
 }
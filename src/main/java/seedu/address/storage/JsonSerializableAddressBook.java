@@ -1,11 +1,14 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -14,6 +17,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.project.Project;
 
@@ -26,6 +30,9 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_PROJECT = "Projects list contains duplicate project(s).";
 
+    /** The number of persons or projects from which they are converted in parallel. */
+    static final int PARALLEL_THRESHOLD = 1000;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedProject> projects = new ArrayList<>();
 
@@ -53,8 +60,10 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream()
                 .map(JsonAdaptedPerson::new)
                 .toList());
+
+        Map<Integer, String> memberNames = getMemberNames(source);
         projects.addAll(source.getProjectList().stream()
-                .map(JsonAdaptedProject::new)
+                .map(project -> new JsonAdaptedProject(project, memberNames))
                 .toList());
     }
 
@@ -65,46 +74,135 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        Set<String> errors = new LinkedHashSet<>();
+        addPersons(addressBook, persons, errors);
+        addProjects(addressBook, projects, errors);
+        checkNoErrors(errors);
+
+        return addressBook;
+    }
+
+    /**
+     * Returns the names of the persons in {@code source}, keyed by person id.
+     */
+    static Map<Integer, String> getMemberNames(ReadOnlyAddressBook source) {
+        Map<Integer, String> memberNames = new HashMap<>();
+        for (Person p : source.getPersonList()) {
+            memberNames.put(p.getId(), p.getName().fullName);
+        }
+        return memberNames;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into persons and adds them to {@code addressBook}, in order.
+     * The persons are converted in parallel if there are at least {@code PARALLEL_THRESHOLD} of them.
+     * Instead of stopping at the first invalid or duplicate person, the message of every error is added to
+     * {@code errors} and the remaining persons are still added.
+     */
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> jsonAdaptedPersons,
+            Collection<String> errors) {
+        for (Person person : convertAll(jsonAdaptedPersons, JsonAdaptedPerson::toModelType, errors)) {
             if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                errors.add(MESSAGE_DUPLICATE_PERSON);
+            } else {
+                addressBook.addPerson(person);
             }
-            addressBook.addPerson(person);
         }
+    }
 
-        // Build name -> Person map for member resolution
-        Map<String, Person> nameMap = new HashMap<>();
-        for (Person p : addressBook.getPersonList()) {
-            nameMap.put(p.getName().fullName, p);
+    /**
+     * Converts {@code jsonAdaptedProjects} into projects whose members are looked up by name in
+     * {@code addressBook}, and adds them to {@code addressBook}, in order.
+     * Errors are handled as in {@link #addPersons(AddressBook, List, Collection)}.
+     */
+    static void addProjects(AddressBook addressBook, List<JsonAdaptedProject> jsonAdaptedProjects,
+            Collection<String> errors) {
+        // Only reads addressBook, so the projects can be converted in parallel
+        for (Project project : convertAll(jsonAdaptedProjects, p -> toProject(addressBook, p), errors)) {
+            if (addressBook.hasProject(project)) {
+                errors.add(MESSAGE_DUPLICATE_PROJECT);
+            } else {
+                addressBook.addProject(project);
+            }
         }
+    }
 
-        for (JsonAdaptedProject jsonAdaptedProject : projects) {
-            // Build base project without members
-            Project baseProject = jsonAdaptedProject.toModelTypeWithoutMembers();
-
-            Set<Person> memberSet = new HashSet<>();
-            for (String memberName : jsonAdaptedProject.getMemberNames()) {
-                Person member = nameMap.get(memberName);
-                if (member == null) {
-                    throw new IllegalValueException("Member not found by name: " + memberName);
-                }
-                memberSet.add(member);
+    /**
+     * Throws an {@code IllegalValueException} listing {@code errors} if there are any.
+     */
+    static void checkNoErrors(Collection<String> errors) throws IllegalValueException {
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+    }
+
+    /**
+     * Returns the values that {@code sources} are converted into by {@code converter}, in order, skipping those that
+     * fail to convert. The messages of the failures are added to {@code errors}.
+     */
+    private static <S, T> List<T> convertAll(List<S> sources, Converter<S, T> converter, Collection<String> errors) {
+        int size = sources.size();
+        Object[] converted = new Object[size];
+        String[] failures = new String[size];
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                converted[i] = converter.convert(sources.get(i));
+            } catch (IllegalValueException e) {
+                failures[i] = e.getMessage();
             }
+        });
 
-            Project fullProject = new Project(
-                    baseProject.getName(),
-                    baseProject.getPriority(),
-                    baseProject.getDeadline(),
-                    memberSet
-            );
+        List<T> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (failures[i] != null) {
+                errors.add(failures[i]);
+            } else {
+                @SuppressWarnings("unchecked")
+                T result = (T) converted[i];
+                results.add(result);
+            }
+        }
+        return results;
+    }
 
-            if (addressBook.hasProject(fullProject)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PROJECT);
+    /**
+     * Converts a Jackson-friendly object into a model object.
+     */
+    @FunctionalInterface
+    private interface Converter<S, T> {
+        T convert(S source) throws IllegalValueException;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedProject} into a {@code Project} whose members are looked up by name in
+     * {@code addressBook}.
+     *
+     * @throws IllegalValueException if the project is invalid or has an unknown member.
+     */
+    static Project toProject(AddressBook addressBook, JsonAdaptedProject jsonAdaptedProject)
+            throws IllegalValueException {
+        // Build base project without members
+        Project baseProject = jsonAdaptedProject.toModelTypeWithoutMembers();
+
+        Set<Person> memberSet = new HashSet<>();
+        for (String memberName : jsonAdaptedProject.getMemberNames()) {
+            Person member = Name.isValidName(memberName) ? addressBook.getPersonByName(new Name(memberName)) : null;
+            if (member == null) {
+                throw new IllegalValueException("Member not found by name: " + memberName);
             }
-            addressBook.addProject(fullProject);
+            memberSet.add(member);
         }
 
-        return addressBook;
+        return new Project(
+                baseProject.getName(),
+                baseProject.getPriority(),
+                baseProject.getDeadline(),
+                memberSet
+        );
     }
 }
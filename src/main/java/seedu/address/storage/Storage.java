@@ -29,4 +29,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Throws the error of an earlier address book save that failed after {@code saveAddressBook} returned,
+     * if there is one. Each error is thrown only once.
+     */
+    void checkForFailedSave() throws IOException;
+
+    /**
+     * Waits until every address book save requested so far has been written.
+     *
+     * @throws IOException if one of those saves failed.
+     */
+    void flush() throws IOException;
+
 }
@@ -2,17 +2,28 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.project.Project;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * In write-behind mode, address book saves are written by a single background thread. Saves that are requested
+ * while an earlier one is still being written are coalesced, so that only the latest snapshot is written.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +31,48 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Writes address book saves in the background, or null if saves are written by the caller. */
+    private final ExecutorService writer;
+    private final Object saveLock = new Object();
+    // The fields below are guarded by saveLock
+    private PendingSave pendingSave;
+    private boolean isWriting;
+    private IOException failedSave;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that writes address book saves in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = isWriteBehind ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Returns the storage for the address book data file in {@code userPrefs}: a json file in the preferred format,
+     * with a binary snapshot that loads faster and a journal of the changes saved since the last snapshot.
+     * The journal is named after the uncompressed data file, so it is still found after switching formats.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath,
+                userPrefs.getAddressBookStorageFormat());
+        return new JournaledAddressBookStorage(new BinaryAddressBookStorage(jsonStorage),
+                JournaledAddressBookStorage.getJournalFilePath(filePath),
+                JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +118,137 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // Copy on the calling thread, as the model may change while the copy is being written
+        PendingSave save = new PendingSave(new AddressBookSnapshot(addressBook), filePath);
+        synchronized (saveLock) {
+            pendingSave = save;
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writePendingSaves);
+            }
+        }
+    }
+
+    @Override
+    public void checkForFailedSave() throws IOException {
+        synchronized (saveLock) {
+            IOException failure = failedSave;
+            failedSave = null;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (saveLock) {
+            boolean isInterrupted = false;
+            while (isWriting) {
+                try {
+                    saveLock.wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        checkForFailedSave();
+    }
+
+    /**
+     * Writes pending saves until there are none left.
+     * Runs on the writer thread.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            PendingSave save;
+            synchronized (saveLock) {
+                save = pendingSave;
+                pendingSave = null;
+                if (save == null) {
+                    isWriting = false;
+                    saveLock.notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                logger.fine("Attempting to write to data file: " + save.filePath);
+                addressBookStorage.saveAddressBook(save.addressBook, save.filePath);
+            } catch (IOException e) {
+                recordFailedSave(save, e);
+            } catch (RuntimeException e) {
+                recordFailedSave(save, new IOException(e.getMessage(), e));
+            }
+        }
+    }
+
+    private void recordFailedSave(PendingSave save, IOException e) {
+        logger.warning("Failed to write data file " + save.filePath + ": " + StringUtil.getDetails(e));
+        synchronized (saveLock) {
+            failedSave = e;
+        }
+    }
+
+    /**
+     * The contents of an address book at one version, copied without rebuilding any of its indexes.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Project> projects;
+        private final long version;
+        private final List<AddressBookChange> recentChanges;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+            projects = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(addressBook.getProjectList())));
+            version = addressBook.getVersion();
+            recentChanges = List.copyOf(addressBook.getRecentChanges());
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Project> getProjectList() {
+            return projects;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public List<AddressBookChange> getRecentChanges() {
+            return recentChanges;
+        }
+    }
+
+    /**
+     * A snapshot of the address book that is waiting to be written.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+        }
     }
 
 }
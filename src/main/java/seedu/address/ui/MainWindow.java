@@ -124,7 +124,9 @@ public class MainWindow extends UiPart<Stage> {
         // Create ProjectListPanel first
         projectListPanel = new ProjectListPanel(
                 logic.getFilteredProjectList(),
-                logic.getFilteredPersonList());
+                logic.getFilteredPersonList(),
+                logic::getProjectsForPerson,
+                logic::getPersonById);
         projectPanelPlaceholder.getChildren().add(projectListPanel.getRoot());
 
         // Create PersonListPanel with selection callback
@@ -315,7 +317,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     private boolean currentPersonHasProject(Project project) {
         Person selectedPerson = personListPanel.getSelectedPerson();
-        return selectedPerson != null && project.getMembers().contains(selectedPerson);
+        return selectedPerson != null && project.hasMember(selectedPerson);
     }
 
     /**
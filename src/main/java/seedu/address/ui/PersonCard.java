@@ -219,8 +219,8 @@ public class PersonCard extends UiPart<Region> {
 
         // Filter projects to find ones where this person is a member
         List<Project> personProjects = allProjects.stream()
-                .filter(project -> project != null && project.getMembers() != null)
-                .filter(project -> project.getMembers().contains(person))
+                .filter(project -> project != null)
+                .filter(project -> project.hasMember(person))
                 .collect(Collectors.toList());
 
         // Create clickable hyperlinks for each project
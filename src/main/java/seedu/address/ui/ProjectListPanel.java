@@ -3,8 +3,9 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -35,6 +36,8 @@ public class ProjectListPanel extends UiPart<Region> {
 
     private final ObservableList<Project> allProjects;
     private final ObservableList<Person> filteredPersons;
+    private final Function<Person, List<Project>> projectsForPerson;
+    private final IntFunction<Person> personById;
     private boolean isShowingAllProjects = false;
     private String currentlyDisplayedProjectName = null; // Track project being displayed for auto-refresh
     private Person currentlySelectedPerson = null; // Track person whose projects are being shown
@@ -77,14 +80,21 @@ public class ProjectListPanel extends UiPart<Region> {
      *
      * @param allProjects The list of all projects. Must not be null.
      * @param filteredPersons The filtered list of persons. Must not be null.
+     * @param projectsForPerson Looks up the projects a person is a member of. Must not be null.
+     * @param personById Looks up a project member by their person id. Must not be null.
      */
-    public ProjectListPanel(ObservableList<Project> allProjects, ObservableList<Person> filteredPersons) {
+    public ProjectListPanel(ObservableList<Project> allProjects, ObservableList<Person> filteredPersons,
+            Function<Person, List<Project>> projectsForPerson, IntFunction<Person> personById) {
         super(FXML);
         requireNonNull(allProjects, "Project list cannot be null");
         requireNonNull(filteredPersons, "Filtered persons list cannot be null");
+        requireNonNull(projectsForPerson, "Project lookup cannot be null");
+        requireNonNull(personById, "Person lookup cannot be null");
 
         this.allProjects = allProjects;
         this.filteredPersons = filteredPersons;
+        this.projectsForPerson = projectsForPerson;
+        this.personById = personById;
 
         // Setup project list view
         projectListView.setCellFactory(listView -> new ProjectListViewCell());
@@ -148,7 +158,7 @@ public class ProjectListPanel extends UiPart<Region> {
 
     /**
      * Displays projects for the given person.
-     * Finds all projects where the person is a member using project.getMembers().
+     * Finds all projects where the person is a member using the model's membership index.
      *
      * @param person The person whose projects to display. Must not be null.
      */
@@ -197,7 +207,11 @@ public class ProjectListPanel extends UiPart<Region> {
         // Display members as non-clickable text labels
         if (membersContainer != null) {
             membersContainer.getChildren().clear();
-            for (Person member : project.getMembers()) {
+            for (int memberId : project.getMemberIds()) {
+                Person member = personById.apply(memberId);
+                if (member == null) {
+                    continue;
+                }
                 Label memberLabel = new Label(member.getName().fullName);
                 memberLabel.setStyle(MEMBER_LABEL_STYLE);
                 membersContainer.getChildren().add(memberLabel);
@@ -436,14 +450,10 @@ public class ProjectListPanel extends UiPart<Region> {
     // Helper Methods for filtering
 
     /**
-     * Filters all projects to return only those where the given person is a member.
+     * Returns only the projects where the given person is a member.
      */
     private List<Project> getProjectsForPerson(Person person) {
-        return allProjects.stream()
-                .filter(project -> project != null)
-                .filter(project -> project.getMembers() != null)
-                .filter(project -> project.getMembers().contains(person))
-                .collect(Collectors.toList());
+        return projectsForPerson.apply(person);
     }
 
     // Helper Methods for header config
@@ -0,0 +1,26 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageFormatTest {
+
+    private static final Path FILE_PATH = Paths.get("data", "addressbook.json");
+
+    @Test
+    public void resolveFilePath_uncompressedFormat_returnsSamePath() {
+        assertEquals(FILE_PATH, StorageFormat.PRETTY.resolveFilePath(FILE_PATH));
+        assertEquals(FILE_PATH, StorageFormat.COMPACT.resolveFilePath(FILE_PATH));
+    }
+
+    @Test
+    public void resolveFilePath_gzipFormat_addsExtension() {
+        Path compressedFilePath = Paths.get("data", "addressbook.json.gz");
+        assertEquals(compressedFilePath, StorageFormat.GZIP.resolveFilePath(FILE_PATH));
+        assertEquals(compressedFilePath, StorageFormat.GZIP.resolveFilePath(compressedFilePath));
+    }
+}
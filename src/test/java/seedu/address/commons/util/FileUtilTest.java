@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,35 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesFileAndKeepsBackup() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("data.txt");
+        Path backup = testFolder.resolve("nested").resolve("data.txt.bak");
+
+        FileUtil.writeToFileAtomically(file, "first", backup);
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(backup));
+
+        FileUtil.writeToFileAtomically(file, "second", backup);
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(backup));
+
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_keepsPermissions() throws Exception {
+        assumeTrue(Files.getFileStore(testFolder).supportsFileAttributeView(PosixFileAttributeView.class));
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "first");
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--r--"));
+
+        FileUtil.writeToFileAtomically(file, "second", null);
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals(PosixFilePermissions.fromString("rw-r--r--"), Files.getPosixFilePermissions(file));
+    }
+
 }
@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final String[] SAMPLE_INPUTS = {"", " ", "0", "12", "123", "93121534", "12a", "a12", "1 23",
+        "abc", "Abc123", "abc_123", "abc-123", "١٢٣", "été", "１２３"};
+
+    @Test
+    public void getPattern_sameRegex_samePattern() {
+        assertSame(ValidationUtil.getPattern("\\d+"), ValidationUtil.getPattern("\\d+"));
+    }
+
+    @Test
+    public void matches_nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(null, "\\d+"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches("123", null));
+    }
+
+    @Test
+    public void matches_sampleInputs_sameAsStringMatches() {
+        for (String input : SAMPLE_INPUTS) {
+            assertEquals(input.matches("[^\\s].*"), ValidationUtil.matches(input, "[^\\s].*"), input);
+        }
+    }
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertFalse(ValidationUtil.isDigits("12", 3));
+        assertTrue(ValidationUtil.isDigits("123", 3));
+        assertFalse(ValidationUtil.isDigits("١٢٣", 3)); // non-ASCII digits
+
+        for (String input : SAMPLE_INPUTS) {
+            assertEquals(input.matches("\\d{3,}"), ValidationUtil.isDigits(input, 3), input);
+        }
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertTrue(ValidationUtil.isAlphanumeric("Abc123"));
+        assertFalse(ValidationUtil.isAlphanumeric("été")); // non-ASCII letters
+
+        for (String input : SAMPLE_INPUTS) {
+            assertEquals(input.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(input), input);
+        }
+    }
+}
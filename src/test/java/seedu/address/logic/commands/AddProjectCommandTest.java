@@ -185,6 +185,11 @@ public class AddProjectCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError();
@@ -215,6 +220,11 @@ public class AddProjectCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public void searchPersons(List<String> keywords) {
+            throw new AssertionError();
+        }
+
         @Override
         public boolean hasProject(Project project) {
             throw new AssertionError();
@@ -240,6 +250,16 @@ public class AddProjectCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public List<Project> getProjectsForPerson(Person person) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public Person getPersonById(int id) {
+            throw new AssertionError();
+        }
+
         @Override
         public ObservableList<Project> getFilteredProjectList() {
             throw new AssertionError();
@@ -255,6 +275,21 @@ public class AddProjectCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public void setPersonSortOrder(seedu.address.model.person.PersonSortOrder order) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError();
+        }
+
     }
 
     /**
@@ -131,6 +131,11 @@ public class DeleteProjectCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError();
@@ -161,6 +166,11 @@ public class DeleteProjectCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public void searchPersons(List<String> keywords) {
+            throw new AssertionError();
+        }
+
         @Override
         public boolean hasProject(Project project) {
             throw new AssertionError();
@@ -186,6 +196,16 @@ public class DeleteProjectCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public List<Project> getProjectsForPerson(Person person) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public Person getPersonById(int id) {
+            throw new AssertionError();
+        }
+
         @Override
         public ObservableList<Project> getFilteredProjectList() {
             throw new AssertionError();
@@ -200,6 +220,21 @@ public class DeleteProjectCommandTest {
         public void sortPersons(java.util.Comparator<Person> comparator) {
             throw new AssertionError();
         }
+
+        @Override
+        public void setPersonSortOrder(seedu.address.model.person.PersonSortOrder order) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError();
+        }
     }
 
     private static class ModelStubWithProjects extends ModelStub {
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -51,7 +52,7 @@ public class EditProjectCommandTest {
         assertEquals("Edited Project", updatedProject.getName());
         assertEquals(testProject.getPriority(), updatedProject.getPriority());
         assertEquals(testProject.getDeadline(), updatedProject.getDeadline());
-        assertEquals(testProject.getMembers(), updatedProject.getMembers());
+        assertArrayEquals(testProject.getMemberIds(), updatedProject.getMemberIds());
     }
 
     @Test
@@ -70,7 +71,7 @@ public class EditProjectCommandTest {
         assertEquals(testProject.getName(), updatedProject.getName());
         assertEquals(Priority.LOW, updatedProject.getPriority());
         assertEquals(testProject.getDeadline(), updatedProject.getDeadline());
-        assertEquals(testProject.getMembers(), updatedProject.getMembers());
+        assertArrayEquals(testProject.getMemberIds(), updatedProject.getMemberIds());
     }
 
     @Test
@@ -89,6 +90,6 @@ public class EditProjectCommandTest {
         assertEquals(testProject.getName(), updatedProject.getName());
         assertEquals(testProject.getPriority(), updatedProject.getPriority());
         assertEquals(LocalDate.of(2025, 12, 31), updatedProject.getDeadline());
-        assertEquals(testProject.getMembers(), updatedProject.getMembers());
+        assertArrayEquals(testProject.getMemberIds(), updatedProject.getMemberIds());
     }
 }
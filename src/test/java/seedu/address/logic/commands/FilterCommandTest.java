@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.PersonHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private static final Set<Tag> NONE = Set.of();
+    private static final Set<Tag> FRIENDS = Set.of(new Tag("friends"));
+    private static final Set<Tag> OWES_MONEY = Set.of(new Tag("owesMoney"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFriendsCommand = new FilterCommand(new PersonHasTagsPredicate(FRIENDS, NONE, NONE));
+        FilterCommand filterOwesMoneyCommand = new FilterCommand(new PersonHasTagsPredicate(OWES_MONEY, NONE, NONE));
+
+        // same object -> returns true
+        assertTrue(filterFriendsCommand.equals(filterFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(filterFriendsCommand.equals(new FilterCommand(new PersonHasTagsPredicate(FRIENDS, NONE, NONE))));
+
+        // different types -> returns false
+        assertFalse(filterFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFriendsCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(filterFriendsCommand.equals(filterOwesMoneyCommand));
+    }
+
+    @Test
+    public void execute_allTags_personsFound() {
+        assertFilterSuccess(new PersonHasTagsPredicate(FRIENDS, NONE, NONE), ALICE, BENSON, DANIEL);
+    }
+
+    @Test
+    public void execute_excludedTag_personsFound() {
+        assertFilterSuccess(new PersonHasTagsPredicate(FRIENDS, NONE, OWES_MONEY), ALICE, DANIEL);
+    }
+
+    @Test
+    public void execute_anyTags_personsFound() {
+        assertFilterSuccess(new PersonHasTagsPredicate(NONE, Set.of(new Tag("owesMoney"), new Tag("family")), NONE),
+                BENSON);
+    }
+
+    @Test
+    public void execute_onlyExcludedTag_personsFound() {
+        assertFilterSuccess(new PersonHasTagsPredicate(NONE, NONE, FRIENDS), CARL, ELLE, FIONA, GEORGE);
+    }
+
+    @Test
+    public void execute_unknownTag_noPersonFound() {
+        assertFilterSuccess(new PersonHasTagsPredicate(Set.of(new Tag("family")), NONE, NONE));
+    }
+
+    @Test
+    public void execute_thenPersonTagged_personListed() {
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(OWES_MONEY, NONE, NONE);
+        new FilterCommand(predicate).execute(model);
+        model.setPerson(ALICE, ALICE.withTags(OWES_MONEY));
+        assertEquals(Arrays.asList(ALICE.withTags(OWES_MONEY), BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(FRIENDS, NONE, NONE);
+        FilterCommand filterCommand = new FilterCommand(predicate);
+        String expected = FilterCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+
+    private void assertFilterSuccess(PersonHasTagsPredicate predicate, Person... expectedPersons) {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.length);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons.length == 0 ? Collections.emptyList() : Arrays.asList(expectedPersons),
+                model.getFilteredPersonList());
+    }
+}
@@ -16,6 +16,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +57,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // fuzzy find with the same keyword -> returns false
+        assertFalse(findFirstCommand.equals(new FuzzyFindCommand(List.of("first"))));
     }
 
     @Test
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(List.of("first"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same keywords -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(new FuzzyFindCommand(List.of("second"))));
+    }
+
+    @Test
+    public void execute_keywords_bestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        List<String> keywords = Arrays.asList("meyer", "kur");
+        FuzzyFindCommand command = new FuzzyFindCommand(keywords);
+        expectedModel.searchPersons(keywords);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // exact match, then prefix match, then matches with a typo
+        assertEquals(Arrays.asList(ELLE, CARL, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword");
+        FuzzyFindCommand command = new FuzzyFindCommand(keywords);
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -179,6 +179,11 @@ public class ShowProjectDetailsCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError();
@@ -209,6 +214,11 @@ public class ShowProjectDetailsCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public void searchPersons(List<String> keywords) {
+            throw new AssertionError();
+        }
+
         @Override
         public boolean hasProject(Project project) {
             throw new AssertionError();
@@ -239,6 +249,16 @@ public class ShowProjectDetailsCommandTest {
             return null;
         }
 
+        @Override
+        public List<Project> getProjectsForPerson(Person person) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public Person getPersonById(int id) {
+            throw new AssertionError();
+        }
+
         @Override
         public void updateFilteredProjectList(java.util.function.Predicate<Project> predicate) {
             throw new AssertionError();
@@ -248,6 +268,21 @@ public class ShowProjectDetailsCommandTest {
         public void sortPersons(java.util.Comparator<Person> comparator) {
             throw new AssertionError();
         }
+
+        @Override
+        public void setPersonSortOrder(seedu.address.model.person.PersonSortOrder order) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError();
+        }
     }
 
     private static class ModelStubWithProjects extends ModelStub {
@@ -261,5 +296,12 @@ public class ShowProjectDetailsCommandTest {
         public ObservableList<Project> getFilteredProjectList() {
             return projects;
         }
+
+        @Override
+        public Project getProjectByName(String projectName) {
+            return projects.stream()
+                    .filter(p -> p.getName().equalsIgnoreCase(projectName))
+                    .findFirst().orElse(null);
+        }
     }
 }
@@ -14,6 +14,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortField;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.SortKey;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -60,10 +64,14 @@ public class SortPersonsCommandTest {
         expectedModel.addPerson(alice);
     }
 
-    private void assertSorted(Prefix prefix, boolean ascending, Comparator<Person> expectedCmp) {
+    private void assertSorted(Prefix prefix, PersonSortField field, boolean ascending,
+            Comparator<Person> expectedCmp) {
         SortPersonsCommand command = new SortPersonsCommand(prefix, ascending);
         String expectedMessage = SortPersonsCommand.MESSAGE_SUCCESS;
 
+        UserPrefs expectedUserPrefs = new UserPrefs(expectedModel.getUserPrefs());
+        expectedUserPrefs.setPersonSortOrder(new PersonSortOrder(List.of(new SortKey(field, ascending))));
+        expectedModel.setUserPrefs(expectedUserPrefs);
         expectedModel.sortPersons(expectedCmp);
         CommandResult expectedResult = new CommandResult(expectedMessage);
 
@@ -72,14 +80,14 @@ public class SortPersonsCommandTest {
 
     @Test
     public void execute_sortByNameAsc_success() {
-        assertSorted(PREFIX_NAME, true,
+        assertSorted(PREFIX_NAME, PersonSortField.NAME, true,
                 Comparator.comparing((Person p) -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER)
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
     }
 
     @Test
     public void execute_sortByNameDesc_success() {
-        assertSorted(PREFIX_NAME, false,
+        assertSorted(PREFIX_NAME, PersonSortField.NAME, false,
                 Comparator.comparing((Person p) -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER)
                         .reversed()
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
@@ -87,14 +95,14 @@ public class SortPersonsCommandTest {
 
     @Test
     public void execute_sortByEmailAsc_success() {
-        assertSorted(PREFIX_EMAIL, true,
+        assertSorted(PREFIX_EMAIL, PersonSortField.EMAIL, true,
                 Comparator.comparing((Person p) -> p.getEmail().toString(), String.CASE_INSENSITIVE_ORDER)
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
     }
 
     @Test
     public void execute_sortByEmailDesc_success() {
-        assertSorted(PREFIX_EMAIL, false,
+        assertSorted(PREFIX_EMAIL, PersonSortField.EMAIL, false,
                 Comparator.comparing((Person p) -> p.getEmail().toString(), String.CASE_INSENSITIVE_ORDER)
                         .reversed()
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
@@ -102,14 +110,14 @@ public class SortPersonsCommandTest {
 
     @Test
     public void execute_sortByPhoneAsc_success() {
-        assertSorted(PREFIX_PHONE, true,
+        assertSorted(PREFIX_PHONE, PersonSortField.PHONE, true,
                 Comparator.comparing((Person p) -> p.getPhone().toString(), String.CASE_INSENSITIVE_ORDER)
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
     }
 
     @Test
     public void execute_sortByPhoneDesc_success() {
-        assertSorted(PREFIX_PHONE, false,
+        assertSorted(PREFIX_PHONE, PersonSortField.PHONE, false,
                 Comparator.comparing((Person p) -> p.getPhone().toString(), String.CASE_INSENSITIVE_ORDER)
                         .reversed()
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
@@ -117,14 +125,14 @@ public class SortPersonsCommandTest {
 
     @Test
     public void execute_sortByAddressAsc_success() {
-        assertSorted(PREFIX_ADDRESS, true,
+        assertSorted(PREFIX_ADDRESS, PersonSortField.ADDRESS, true,
                 Comparator.comparing((Person p) -> p.getAddress().toString(), String.CASE_INSENSITIVE_ORDER)
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
     }
 
     @Test
     public void execute_sortByAddressDesc_success() {
-        assertSorted(PREFIX_ADDRESS, false,
+        assertSorted(PREFIX_ADDRESS, PersonSortField.ADDRESS, false,
                 Comparator.comparing((Person p) -> p.getAddress().toString(), String.CASE_INSENSITIVE_ORDER)
                         .reversed()
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
@@ -132,19 +140,38 @@ public class SortPersonsCommandTest {
 
     @Test
     public void execute_sortByPriorityAsc_success() {
-        assertSorted(PREFIX_PRIORITY, true,
-                Comparator.comparing((Person p) -> SortPersonsCommand.priorityRank(p.getPriority().toString()))
+        assertSorted(PREFIX_PRIORITY, PersonSortField.PRIORITY, true,
+                Comparator.comparingInt((Person p) -> p.getPriority().getRank())
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
     }
 
     @Test
     public void execute_sortByPriorityDesc_success() {
-        assertSorted(PREFIX_PRIORITY, false,
-                Comparator.comparing((Person p) -> SortPersonsCommand.priorityRank(p.getPriority().toString()))
+        assertSorted(PREFIX_PRIORITY, PersonSortField.PRIORITY, false,
+                Comparator.comparingInt((Person p) -> p.getPriority().getRank())
                         .reversed()
                         .thenComparing(p -> p.getName().toString(), String.CASE_INSENSITIVE_ORDER));
     }
 
+    @Test
+    public void execute_sortByPriorityDescThenAddress_success() {
+        Person dave = new PersonBuilder().withName("Dave").withEmail("dave@example.com")
+                .withPhone("444").withAddress("Apricot Lane")
+                .withPriority("LOW").build();
+        model.addPerson(dave);
+        expectedModel.addPerson(dave);
+
+        SortPersonsCommand command = new SortPersonsCommand(
+                List.of(PREFIX_PRIORITY, PREFIX_ADDRESS), List.of(false, true));
+        PersonSortOrder expectedOrder = new PersonSortOrder(List.of(
+                new SortKey(PersonSortField.PRIORITY, false), new SortKey(PersonSortField.ADDRESS, true)));
+        expectedModel.setPersonSortOrder(expectedOrder);
+
+        assertCommandSuccess(command, model, SortPersonsCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(List.of(alice, charlie, dave, bob), model.getFilteredPersonList());
+        assertEquals(expectedOrder, model.getUserPrefs().getPersonSortOrder());
+    }
+
     @Test
     public void equals() {
         SortPersonsCommand sortNameAsc = new SortPersonsCommand(PREFIX_NAME, true);
@@ -171,22 +198,14 @@ public class SortPersonsCommandTest {
         // different prefix -> returns false
         assertNotEquals(sortNameAsc, sortAddressAsc);
 
+        // same prefixes in a different order -> returns false
+        assertNotEquals(new SortPersonsCommand(List.of(PREFIX_NAME, PREFIX_ADDRESS), List.of(true, true)),
+                new SortPersonsCommand(List.of(PREFIX_ADDRESS, PREFIX_NAME), List.of(true, true)));
+
         // unsupported prefix -> returns true
         CommandException ex = assertThrows(
                 CommandException.class, () -> noSuchPrefix.execute(model)
         );
         assertTrue(ex.getMessage().equals("Unknown sort prefix: dc/"));
     }
-
-    @Test
-    public void priorityRank_valid_priorities() {
-        assertEquals(0, SortPersonsCommand.priorityRank("LOW"));
-        assertEquals(1, SortPersonsCommand.priorityRank("MEDIUM"));
-        assertEquals(2, SortPersonsCommand.priorityRank("HIGH"));
-    }
-
-    @Test
-    public void priorityRank_invalidPriority_returnsMinusOne() {
-        assertEquals(-1, SortPersonsCommand.priorityRank("..."));
-    }
 }
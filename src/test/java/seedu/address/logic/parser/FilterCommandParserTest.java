@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.predicates.PersonHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonHasTagsPredicate(
+                Set.of(new Tag("friends"), new Tag("colleagues")), Set.of(new Tag("client")),
+                Set.of(new Tag("owesMoney"))));
+        assertParseSuccess(parser, " t/friends t/colleagues any/client not/owesMoney", expectedFilterCommand);
+
+        // any order
+        assertParseSuccess(parser, " not/owesMoney t/colleagues any/client t/friends", expectedFilterCommand);
+
+        // only excluded tags
+        assertParseSuccess(parser, " not/owesMoney", new FilterCommand(
+                new PersonHasTagsPredicate(Set.of(), Set.of(), Set.of(new Tag("owesMoney")))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+        // no tags
+        assertParseFailure(parser, "     ", expectedMessage);
+
+        // text before the tags
+        assertParseFailure(parser, " friends t/colleagues", expectedMessage);
+
+        // invalid tag
+        assertParseFailure(parser, " t/best friends", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FuzzyFindCommand;
+
+public class FuzzyFindCommandParserTest {
+
+    private FuzzyFindCommandParser parser = new FuzzyFindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFuzzyFindCommand() {
+        // no leading and trailing whitespaces
+        FuzzyFindCommand expectedFuzzyFindCommand = new FuzzyFindCommand(Arrays.asList("alx", "frends"));
+        assertParseSuccess(parser, "alx frends", expectedFuzzyFindCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n alx \n \t frends  \t", expectedFuzzyFindCommand);
+    }
+
+}
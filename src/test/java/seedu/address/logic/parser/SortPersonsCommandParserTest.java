@@ -9,9 +9,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.SortPersonsCommand;
 
 public class SortPersonsCommandParserTest {
@@ -168,10 +171,36 @@ public class SortPersonsCommandParserTest {
     }
 
     @Test
-    public void parse_multiplePrefixes_failure() {
-        assertParseFailure(
+    public void parse_multiplePrefixes_success() {
+        assertParseSuccess(
                 parser,
                 " " + PREFIX_NAME + "asc " + PREFIX_EMAIL + "desc",
+                new SortPersonsCommand(List.of(PREFIX_NAME, PREFIX_EMAIL), List.of(true, false))
+        );
+
+        // attributes keep the order they are given in, each with its own default direction
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_PRIORITY + " " + PREFIX_ADDRESS + " " + PREFIX_NAME + "desc",
+                new SortPersonsCommand(List.of(PREFIX_PRIORITY, PREFIX_ADDRESS, PREFIX_NAME),
+                        List.of(false, true, false))
+        );
+    }
+
+    @Test
+    public void parse_repeatedPrefix_failure() {
+        assertParseFailure(
+                parser,
+                " " + PREFIX_NAME + "asc " + PREFIX_NAME + "desc",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NAME)
+        );
+    }
+
+    @Test
+    public void parse_invalidDirectionOfLaterPrefix_failure() {
+        assertParseFailure(
+                parser,
+                " " + PREFIX_PRIORITY + "desc " + PREFIX_NAME + "up",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPersonsCommand.MESSAGE_USAGE)
         );
     }
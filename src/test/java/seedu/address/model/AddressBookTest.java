@@ -2,25 +2,35 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.priority.Priority;
 import seedu.address.model.project.Project;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -84,6 +94,198 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getProjectsForPerson_memberOfProjects_returnsProjects() {
+        Project website = new Project("Website", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE));
+        Project app = new Project("App", Priority.LOW, LocalDate.of(2030, 1, 1), Set.of(ALICE, BENSON));
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addProject(website);
+        addressBook.addProject(app);
+
+        assertEquals(List.of(website, app), addressBook.getProjectsForPerson(ALICE));
+        assertEquals(List.of(app), addressBook.getProjectsForPerson(BENSON));
+
+        // an edited project keeps its place in the order of the project list
+        Project editedWebsite = new Project("Website", Priority.LOW, LocalDate.of(2031, 1, 1), Set.of(ALICE));
+        addressBook.setProject(website, editedWebsite);
+        assertEquals(List.of(editedWebsite, app), addressBook.getProjectsForPerson(ALICE));
+
+        addressBook.removeProject(app);
+        assertEquals(List.of(editedWebsite), addressBook.getProjectsForPerson(ALICE));
+        assertEquals(Collections.emptyList(), addressBook.getProjectsForPerson(BENSON));
+    }
+
+    @Test
+    public void setPerson_memberOfProject_keepsProjectUnchanged() {
+        Project website = new Project("Website", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE));
+        addressBook.addPerson(ALICE);
+        addressBook.addProject(website);
+
+        Person renamedAlice = new PersonBuilder().withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        Person storedAlice = addressBook.getPersonList().get(0);
+        assertEquals(ALICE.getId(), storedAlice.getId());
+        assertSame(storedAlice, addressBook.getPersonById(ALICE.getId()));
+        assertSame(website, addressBook.getProjectByName("Website"));
+        assertTrue(website.hasMember(storedAlice));
+        assertEquals(List.of(website), addressBook.getProjectsForPerson(storedAlice));
+    }
+
+    @Test
+    public void addPerson_idInUse_assignsNewId() {
+        addressBook.addPerson(ALICE);
+        Person other = new PersonBuilder().withName("Other Person").withId(ALICE.getId()).build();
+        addressBook.addPerson(other);
+
+        Person storedOther = addressBook.getPersonList().get(1);
+        assertNotEquals(ALICE.getId(), storedOther.getId());
+        assertSame(storedOther, addressBook.getPersonById(storedOther.getId()));
+    }
+
+    @Test
+    public void addPerson_noId_assignsId() {
+        addressBook.addPerson(new PersonBuilder().build());
+        assertTrue(addressBook.getPersonList().get(0).hasId());
+    }
+
+    @Test
+    public void removeMemberFromAllProjects_member_removedFromProjects() {
+        Project app = new Project("App", Priority.LOW, LocalDate.of(2030, 1, 1), Set.of(ALICE, BENSON));
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addProject(app);
+
+        addressBook.removePerson(ALICE);
+        addressBook.removeMemberFromAllProjects(ALICE);
+
+        Project updated = addressBook.getProjectByName("App");
+        assertFalse(updated.hasMember(ALICE));
+        assertTrue(updated.hasMember(BENSON));
+        assertEquals(1, updated.getMemberCount());
+        assertNull(addressBook.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void removePersons_membersOfProjects_projectListChangedOnce() {
+        Project app = new Project("App", Priority.LOW, LocalDate.of(2030, 1, 1), Set.of(ALICE, BENSON, CARL));
+        Project web = new Project("Web", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE, CARL));
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        addressBook.addProject(app);
+        addressBook.addProject(web);
+        int[] projectListChanges = {0};
+        addressBook.getProjectList().addListener((ListChangeListener<Project>) change -> projectListChanges[0]++);
+
+        addressBook.removePersons(List.of(ALICE, CARL));
+
+        assertEquals(List.of(BENSON), addressBook.getPersonList());
+        assertEquals(1, projectListChanges[0]);
+        assertEquals(1, addressBook.getProjectByName("App").getMemberCount());
+        assertTrue(addressBook.getProjectByName("App").hasMember(BENSON));
+        assertEquals(0, addressBook.getProjectByName("Web").getMemberCount());
+        assertNull(addressBook.getPersonById(ALICE.getId()));
+        assertEquals(List.of(addressBook.getProjectByName("App")), addressBook.getProjectsForPerson(BENSON));
+    }
+
+    @Test
+    public void setPersons_newTag_sharedByEditedPersonsWithOneChange() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person storedAlice = addressBook.getPersonList().get(0);
+        int[] personListChanges = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> personListChanges[0]++);
+
+        addressBook.setPersons(List.of(ALICE, BENSON), List.of(new PersonBuilder(ALICE).withTags("mentor").build(),
+                new PersonBuilder(BENSON).withTags("mentor").build()));
+
+        assertEquals(1, personListChanges[0]);
+        Person taggedAlice = addressBook.getPersonList().get(0);
+        Person taggedBenson = addressBook.getPersonList().get(1);
+        assertEquals(storedAlice.getId(), taggedAlice.getId());
+        assertSame(taggedAlice.getTags().iterator().next(), taggedBenson.getTags().iterator().next());
+        assertEquals(Set.of(taggedAlice, taggedBenson), addressBook.getTagRegistry().getPersons(new Tag("mentor")));
+    }
+
+    @Test
+    public void addPerson_sameTagNames_shareTagInstances() {
+        addressBook.resetData(getTypicalAddressBook());
+        Tag friends = addressBook.getTagRegistry().intern(new Tag("friends"));
+        for (Person person : addressBook.getTagRegistry().getPersons(friends)) {
+            assertTrue(person.getTags().stream().anyMatch(tag -> tag == friends));
+        }
+
+        addressBook.addPerson(new PersonBuilder().withName("Other Person").withTags("friends").build());
+        Person storedOther = addressBook.getPersonList().get(addressBook.getPersonList().size() - 1);
+        assertSame(friends, storedOther.getTags().iterator().next());
+        assertTrue(addressBook.getTagRegistry().getPersons(friends).contains(storedOther));
+    }
+
+    @Test
+    public void setPersonAndRemovePerson_tagRegistryUpdated() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Tag owesMoney = new Tag("owesMoney");
+
+        Person storedAlice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags("owesMoney").build());
+        Person taggedAlice = addressBook.getPersonList().get(0);
+        assertEquals(Set.of(taggedAlice, BENSON), addressBook.getTagRegistry().getPersons(owesMoney));
+        assertFalse(addressBook.getTagRegistry().getPersons(new Tag("friends")).contains(storedAlice));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(Set.of(taggedAlice), addressBook.getTagRegistry().getPersons(owesMoney));
+        assertEquals(Set.of(owesMoney), addressBook.getTagRegistry().getTags());
+    }
+
+    @Test
+    public void getVersion_modifications_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getVersion();
+        assertTrue(afterAdd > initialVersion);
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > afterAdd);
+    }
+
+    @Test
+    public void getRecentChanges_modifications_recordedInOrder() {
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+
+        List<AddressBookChange> changes = addressBook.getRecentChanges();
+        assertEquals(2, changes.size());
+        assertEquals(AddressBookChange.Type.PUT_PERSON, changes.get(0).getType());
+        assertEquals(afterAdd, changes.get(0).getVersion());
+        assertEquals(afterAdd, changes.get(1).getPreviousVersion());
+        assertEquals(AddressBookChange.Type.REMOVE_PERSON, changes.get(1).getType());
+        assertEquals(ALICE.getName().fullName, changes.get(1).getTarget());
+        assertEquals(addressBook.getVersion(), changes.get(1).getVersion());
+
+        // replacing the whole list is not recorded as a change
+        addressBook.setPersons(List.of(BENSON));
+        assertTrue(addressBook.getRecentChanges().isEmpty());
+    }
+
+    @Test
+    public void resetData_copy_sameVersionAndChanges() {
+        addressBook.addPerson(ALICE);
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook.getVersion(), copy.getVersion());
+        assertEquals(addressBook.getRecentChanges(), copy.getRecentChanges());
+
+        copy.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        assertNotEquals(addressBook.getVersion(), copy.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -111,6 +313,16 @@ public class AddressBookTest {
         public ObservableList<Project> getProjectList() {
             return null;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public List<AddressBookChange> getRecentChanges() {
+            return List.of();
+        }
     }
 
 }
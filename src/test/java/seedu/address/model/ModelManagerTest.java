@@ -2,21 +2,35 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortField;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.SortKey;
 import seedu.address.model.person.predicates.PersonContainsKeywordsPredicate;
+import seedu.address.model.priority.Priority;
+import seedu.address.model.project.Project;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +102,104 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getProjectByName_differentCase_returnsProject() {
+        Project project = new Project("Website Revamp", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE));
+        modelManager.addProject(project);
+        assertEquals(project, modelManager.getProjectByName("website REVAMP"));
+        assertNull(modelManager.getProjectByName("Website"));
+    }
+
+    @Test
+    public void getProjectByName_afterRename_returnsEditedProject() {
+        Project project = new Project("Website Revamp", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE));
+        Project renamed = new Project("Mobile App", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE));
+        modelManager.addProject(project);
+        modelManager.setProject(project, renamed);
+        assertNull(modelManager.getProjectByName("Website Revamp"));
+        assertEquals(renamed, modelManager.getProjectByName("mobile app"));
+        assertTrue(modelManager.hasProject(renamed));
+    }
+
+    @Test
+    public void updateFilteredPersonList_keywordsThenPersonsEdited_listsMatchingPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(new PersonContainsKeywordsPredicate(Arrays.asList("Meier")));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // persons edited after the search are tested again
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        assertEquals(List.of(editedAlice, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void searchPersons_thenPersonsEdited_listsBestMatchesFirst() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.searchPersons(List.of("Meie", "Daniel"));
+        assertEquals(List.of(DANIEL, BENSON), modelManager.getFilteredPersonList());
+
+        // persons edited after the search are ranked again
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Danial").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(DANIEL, BENSON, editedAlice), modelManager.getFilteredPersonList());
+
+        // other filters list persons in the order of the address book
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPersonSortOrder_keptInUserPrefs() {
+        PersonSortOrder byNameDescending = new PersonSortOrder(List.of(new SortKey(PersonSortField.NAME, false)));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setPersonSortOrder(byNameDescending);
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(byNameDescending, modelManager.getUserPrefs().getPersonSortOrder());
+
+        // a model started with the user prefs comes up sorted
+        ModelManager restartedModelManager = new ModelManager(modelManager.getAddressBook(),
+                modelManager.getUserPrefs());
+        assertEquals(List.of(BENSON, ALICE), restartedModelManager.getFilteredPersonList());
+        // only the displayed list is sorted, so the address book is unchanged and need not be saved again
+        assertEquals(List.of(ALICE, BENSON), restartedModelManager.getAddressBook().getPersonList());
+        assertEquals(modelManager.getAddressBookVersion(), restartedModelManager.getAddressBookVersion());
+        restartedModelManager.addPerson(CARL);
+        assertEquals(List.of(CARL, BENSON, ALICE), restartedModelManager.getFilteredPersonList());
+
+        assertThrows(IllegalArgumentException.class, () -> modelManager.setPersonSortOrder(new PersonSortOrder()));
+    }
+
+    @Test
+    public void sortPersons_thenPersonsAddedAndEdited_keepsOrder() {
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(ALICE);
+        modelManager.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        assertEquals(List.of(ALICE, DANIEL), modelManager.getFilteredPersonList());
+
+        // persons added or edited later are listed in their position
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zoe Pauline").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(BENSON, DANIEL, editedAlice), modelManager.getFilteredPersonList());
+
+        // filters keep the order, and the address book is not reordered
+        modelManager.updateFilteredPersonList(new PersonContainsKeywordsPredicate(Arrays.asList("Meier", "Zoe")));
+        assertEquals(List.of(BENSON, DANIEL, editedAlice), modelManager.getFilteredPersonList());
+        assertEquals(List.of(DANIEL, editedAlice, BENSON), modelManager.getAddressBook().getPersonList());
+
+        // equally good search results are listed in the order
+        modelManager.searchPersons(List.of("Meier", "Zoe"));
+        assertEquals(List.of(BENSON, DANIEL, editedAlice), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
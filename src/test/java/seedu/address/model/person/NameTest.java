@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -57,4 +59,20 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getSortKey_sameOrderAsCaseInsensitiveOrder() {
+        String[] names = {"alice", "Alice", "bob", "Bob Tan", "bob tan", "Zed", "zed", "Ab", "aB", "2nd"};
+        for (String first : names) {
+            for (String second : names) {
+                int expected = Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(first, second));
+                int actual = Integer.signum(new Name(first).getSortKey().compareTo(new Name(second).getSortKey()));
+                assertEquals(expected, actual, first + " " + second);
+            }
+        }
+
+        // computed once
+        Name name = new Name("Alice Pauline");
+        assertSame(name.getSortKey(), name.getSortKey());
+    }
 }
@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.PersonSearchIndex.RANK_EXACT;
+import static seedu.address.model.person.PersonSearchIndex.RANK_FUZZY;
+import static seedu.address.model.person.PersonSearchIndex.RANK_NONE;
+import static seedu.address.model.person.PersonSearchIndex.RANK_PREFIX;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void search_nameWord_rankedExactThenPrefixThenFuzzy() {
+        index.setPersons(List.of(BENSON, CARL, DANIEL, ELLE));
+        assertEquals(Map.of(BENSON, RANK_EXACT, DANIEL, RANK_EXACT, ELLE, RANK_FUZZY),
+                index.search(List.of("MEIER")));
+        assertEquals(Map.of(CARL, RANK_PREFIX), index.search(List.of("kur")));
+
+        // best rank over all keywords
+        assertEquals(Map.of(BENSON, RANK_EXACT, DANIEL, RANK_EXACT, ELLE, RANK_EXACT),
+                index.search(List.of("meier", "meyer")));
+    }
+
+    @Test
+    public void search_typos_fuzzyRankPerTypo() {
+        index.add(ALICE);
+        assertEquals(Map.of(ALICE, RANK_FUZZY), index.search(List.of("paulime")));
+        assertEquals(Map.of(ALICE, RANK_FUZZY + 1), index.search(List.of("paulinnne")));
+        assertTrue(index.search(List.of("pualnie")).isEmpty());
+
+        // short keywords must match exactly or as a prefix
+        assertTrue(index.search(List.of("alx")).isEmpty());
+    }
+
+    @Test
+    public void search_emailTagsAndSocials_found() {
+        index.add(ALICE);
+        index.add(BENSON);
+        assertEquals(Map.of(BENSON, RANK_EXACT), index.search(List.of("johnd@example.com")));
+        assertEquals(Map.of(BENSON, RANK_EXACT), index.search(List.of("johnd")));
+        assertEquals(Map.of(BENSON, RANK_EXACT), index.search(List.of("owesMoney")));
+        assertEquals(Map.of(ALICE, RANK_PREFIX, BENSON, RANK_PREFIX), index.search(List.of("frie")));
+        assertEquals(Map.of(ALICE, RANK_EXACT), index.search(List.of("alic3")));
+        assertEquals(Map.of(ALICE, RANK_PREFIX), index.search(List.of("alicechan")));
+        assertEquals(Map.of(BENSON, RANK_EXACT), index.search(List.of("bensonmeier")));
+    }
+
+    @Test
+    public void remove_person_notFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        long version = index.getVersion();
+        index.remove(BENSON);
+        assertEquals(Map.of(DANIEL, RANK_EXACT), index.search(List.of("meier")));
+        assertTrue(index.search(List.of("owesmoney")).isEmpty());
+        assertTrue(index.search(List.of("bensn")).isEmpty());
+        assertNotEquals(version, index.getVersion());
+    }
+
+    @Test
+    public void remove_repeatedNameWord_notFound() {
+        Person person = new PersonBuilder().withName("Tan Tan").build();
+        index.add(person);
+        index.remove(person);
+        assertTrue(index.search(List.of("tan")).isEmpty());
+    }
+
+    @Test
+    public void search_syntheticPersons_sameAsGetRank() {
+        List<Person> persons = List.of(SyntheticDataUtil.getSyntheticPersons(300));
+        index.setPersons(persons);
+        for (String keyword : List.of("alex", "aelx", "yeoh", "yoeh", "bernciyu17", "frends", "colleague",
+                "example.com", "exampel.com", "li", "12", "alexyeoh0@example.com", "xyz")) {
+            List<String> keywords = List.of(keyword);
+            Map<Person, Integer> ranks = index.search(keywords);
+            for (Person person : persons) {
+                assertEquals(PersonSearchIndex.getRank(person, keywords),
+                        (int) ranks.getOrDefault(person, RANK_NONE), keyword + " " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, PersonSearchIndex.getEditDistance("alex", "alex", 2));
+        assertEquals(1, PersonSearchIndex.getEditDistance("alex", "alx", 2));
+        assertEquals(1, PersonSearchIndex.getEditDistance("alex", "alez", 2));
+        assertEquals(2, PersonSearchIndex.getEditDistance("alex", "aelx", 2));
+
+        // more than the maximum
+        assertEquals(2, PersonSearchIndex.getEditDistance("alex", "bob", 1));
+        assertEquals(2, PersonSearchIndex.getEditDistance("alex", "alexander", 1));
+    }
+
+    @Test
+    public void getHandle() {
+        assertEquals("alice_23", PersonSearchIndex.getHandle("alice_23"));
+        assertEquals("alic3", PersonSearchIndex.getHandle("@alic3"));
+        assertEquals("alice", PersonSearchIndex.getHandle("linkedin.com/in/alice/"));
+        assertEquals("alicechannel", PersonSearchIndex.getHandle("https://youtube.com/@alicechannel"));
+        assertEquals("", PersonSearchIndex.getHandle(""));
+    }
+}
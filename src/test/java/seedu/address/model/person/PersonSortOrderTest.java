@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonSortOrder.SortKey;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortOrderTest {
+
+    private static final SortKey PRIORITY_DESCENDING = new SortKey(PersonSortField.PRIORITY, false);
+    private static final SortKey ADDRESS_ASCENDING = new SortKey(PersonSortField.ADDRESS, true);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonSortOrder(null));
+        assertThrows(NullPointerException.class, () -> new SortKey(null, true));
+    }
+
+    @Test
+    public void getComparator_unsorted_returnsNull() {
+        assertTrue(new PersonSortOrder().isUnsorted());
+        assertNull(new PersonSortOrder().getComparator());
+    }
+
+    @Test
+    public void getComparator_keysInOrderOfPrecedence() {
+        Person highInBerryRoad = new PersonBuilder().withName("Amy").withAddress("Berry Road")
+                .withPriority("HIGH").build();
+        Person lowInAppleStreet = new PersonBuilder().withName("Bob").withAddress("apple street")
+                .withPriority("LOW").build();
+        Person lowInBerryRoad = new PersonBuilder().withName("Carl").withAddress("Berry Road")
+                .withPriority("LOW").build();
+        Person lowInBerryRoadToo = new PersonBuilder().withName("Anna").withAddress("berry road")
+                .withPriority("LOW").build();
+        List<Person> persons = new ArrayList<>(List.of(lowInBerryRoad, lowInAppleStreet, lowInBerryRoadToo,
+                highInBerryRoad));
+
+        PersonSortOrder order = new PersonSortOrder(List.of(PRIORITY_DESCENDING, ADDRESS_ASCENDING));
+        assertFalse(order.isUnsorted());
+        persons.sort(order.getComparator());
+
+        // addresses are compared ignoring case, and the remaining ties are broken by name
+        assertEquals(List.of(highInBerryRoad, lowInAppleStreet, lowInBerryRoadToo, lowInBerryRoad), persons);
+    }
+
+    @Test
+    public void equals() {
+        PersonSortOrder order = new PersonSortOrder(List.of(PRIORITY_DESCENDING, ADDRESS_ASCENDING));
+
+        // same values -> returns true
+        assertEquals(order, new PersonSortOrder(List.of(new SortKey(PersonSortField.PRIORITY, false),
+                new SortKey(PersonSortField.ADDRESS, true))));
+        assertEquals(new PersonSortOrder(), new PersonSortOrder(List.of()));
+
+        // different types -> returns false
+        assertFalse(order.equals(1));
+
+        // null -> returns false
+        assertFalse(order.equals(null));
+
+        // same keys in a different order -> returns false
+        assertNotEquals(order, new PersonSortOrder(List.of(ADDRESS_ASCENDING, PRIORITY_DESCENDING)));
+
+        // different direction -> returns false
+        assertNotEquals(order, new PersonSortOrder(List.of(new SortKey(PersonSortField.PRIORITY, true),
+                ADDRESS_ASCENDING)));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    private final PersonTokenIndex index = new PersonTokenIndex();
+
+    @Test
+    public void add_person_foundByEveryToken() {
+        index.add(ALICE);
+        assertEquals(List.of(ALICE), index.getPersonsWithNameWord("aLIce"));
+        assertEquals(List.of(ALICE), index.getPersonsWithNameWord("Pauline"));
+        assertEquals(List.of(ALICE), index.getPersonsWithPhone("94351253"));
+        assertEquals(List.of(ALICE), index.getPersonsWithEmail("alice@example.com"));
+        assertEquals(List.of(ALICE), index.getPersonsWithEmailLocalPart("alice"));
+        assertEquals(List.of(ALICE), index.getPersonsWithEmailDomain("example.com"));
+
+        assertTrue(index.getPersonsWithNameWord("Ali").isEmpty());
+        assertTrue(index.getPersonsWithPhone("9435").isEmpty());
+    }
+
+    @Test
+    public void remove_person_notFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+        assertEquals(List.of(DANIEL), index.getPersonsWithNameWord("meier"));
+        assertTrue(index.getPersonsWithNameWord("benson").isEmpty());
+        assertEquals(List.of(DANIEL), index.getPersonsWithEmailDomain("example.com"));
+    }
+
+    @Test
+    public void remove_repeatedNameWord_notFound() {
+        Person person = new PersonBuilder().withName("Tan Tan").build();
+        index.add(person);
+        index.remove(person);
+        assertTrue(index.getPersonsWithNameWord("tan").isEmpty());
+    }
+
+    @Test
+    public void setPersons_replacesPersons() {
+        index.add(ALICE);
+        long version = index.getVersion();
+        index.setPersons(List.of(BENSON));
+        assertTrue(index.getPersonsWithNameWord("alice").isEmpty());
+        assertEquals(List.of(BENSON), index.getPersonsWithNameWord("benson"));
+        assertNotEquals(version, index.getVersion());
+    }
+}
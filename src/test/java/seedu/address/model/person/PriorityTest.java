@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -53,4 +54,19 @@ public class PriorityTest {
         // different values -> returns false
         assertFalse(priority.equals(new Priority("MEDIUM")));
     }
+
+    @Test
+    public void compareTo() {
+        Priority low = new Priority("LOW");
+        Priority medium = new Priority("MEDIUM");
+        Priority high = new Priority(seedu.address.model.priority.Priority.HIGH);
+
+        assertTrue(low.compareTo(medium) < 0);
+        assertTrue(high.compareTo(medium) > 0);
+        assertEquals(0, low.compareTo(new Priority("LOW")));
+        assertEquals(0, low.getRank());
+        assertEquals(1, medium.getRank());
+        assertEquals(2, high.getRank());
+        assertEquals(seedu.address.model.priority.Priority.MEDIUM, medium.getLevel());
+    }
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortedPersonListTest {
+
+    private static final Comparator<Person> BY_NAME = Comparator.comparing(person -> person.getName().fullName);
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(DANIEL, ALICE, CARL);
+
+    @Test
+    public void constructor_nullComparator_sourceOrder() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, null);
+        assertEquals(List.of(DANIEL, ALICE, CARL), sortedPersons.asUnmodifiableObservableList());
+
+        // follows the changes to the source
+        source.add(1, BENSON);
+        source.remove(DANIEL);
+        source.set(2, ALICE.withId(1));
+        assertEquals(source, sortedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setComparator_thenSourceChanged_keepsOrder() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, null);
+        sortedPersons.setComparator(BY_NAME);
+        assertEquals(List.of(ALICE, CARL, DANIEL), sortedPersons.asUnmodifiableObservableList());
+
+        source.add(BENSON);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), sortedPersons.asUnmodifiableObservableList());
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zoe Pauline").build();
+        source.set(source.indexOf(ALICE), editedAlice);
+        source.remove(CARL);
+        assertEquals(List.of(BENSON, DANIEL, editedAlice), sortedPersons.asUnmodifiableObservableList());
+
+        // back to the order of the source
+        sortedPersons.setComparator(null);
+        assertEquals(source, sortedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setComparator_aboveParallelSortThreshold_sameOrderAsBelow() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                Arrays.asList(SyntheticDataUtil.getSyntheticPersons(500)));
+        // Many persons share a priority, so the order among them shows that the sort is stable
+        Comparator<Person> byPriority = Comparator.comparing(Person::getPriority);
+        SortedPersonList sequentialList = new SortedPersonList(persons, byPriority);
+
+        SortedPersonList parallelList = new SortedPersonList(persons, null);
+        parallelList.setParallelSortThreshold(1);
+        parallelList.setComparator(byPriority);
+
+        assertEquals(sequentialList.asUnmodifiableObservableList(), parallelList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setParallelSortThreshold_notPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedPersonList(source, null)
+                .setParallelSortThreshold(0));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> new SortedPersonList(source, BY_NAME)
+                .asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -47,6 +48,36 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getPersonByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonByName(ALICE.getName()));
+        assertNull(uniquePersonList.getPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void getPersonByName_afterSetPersonWithDifferentIdentity_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertNull(uniquePersonList.getPersonByName(ALICE.getName()));
+        assertEquals(BOB, uniquePersonList.getPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void getPersonByName_afterSetPersons_returnsReplacementPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(BOB, uniquePersonList.getPersonByName(BOB.getName()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +193,64 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsAllDuplicates() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, BOB);
+        String expectedMessage = "Operation would result in duplicate persons: "
+                + ALICE.getName() + ", " + BOB.getName();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(BOB, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_targetsAndEditedPersons_replacesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person renamedBob = new PersonBuilder(BOB).withName("Bobby").build();
+        uniquePersonList.setPersons(List.of(ALICE, BOB), List.of(editedAlice, renamedBob));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedAlice);
+        expectedUniquePersonList.add(renamedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_editedPersonsWithSameIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person bobAsAlice = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, ()
+            -> uniquePersonList.setPersons(List.of(BOB), List.of(bobAsAlice)));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.removeAll(List.of(BOB, ALICE));
+        assertEquals(new UniquePersonList(), uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
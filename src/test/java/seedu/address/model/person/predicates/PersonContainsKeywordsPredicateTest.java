@@ -3,13 +3,19 @@ package seedu.address.model.person.predicates;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -162,4 +168,21 @@ public class PersonContainsKeywordsPredicateTest {
                 + ", emailPredicate=" + new EmailContainsKeywordsPredicate(keywords) + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void addMatches_sameAsTest() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        index.setPersons(getTypicalPersons());
+        List<List<String>> keywordLists = List.of(List.of("alice"), List.of("MEIER", "94351253"),
+                List.of("alice@"), List.of("@example.com"), List.of("ALICE@example.com"), List.of("@example"),
+                List.of("Kurz", "lydia@", "9482442"), List.of("nobody", "123"));
+
+        for (List<String> keywords : keywordLists) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(keywords);
+            Set<Person> matches = new HashSet<>();
+            predicate.addMatches(index, matches);
+            Set<Person> expectedMatches = getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expectedMatches, matches, keywords.toString());
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonHasTagsPredicateTest {
+
+    private static final Set<Tag> NONE = Set.of();
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag FAMILY = new Tag("family");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+
+    @Test
+    public void equals() {
+        PersonHasTagsPredicate firstPredicate = new PersonHasTagsPredicate(Set.of(FRIENDS), NONE, NONE);
+        PersonHasTagsPredicate secondPredicate = new PersonHasTagsPredicate(NONE, Set.of(FRIENDS), NONE);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PersonHasTagsPredicate(Set.of(FRIENDS), NONE, NONE)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // same tags in a different role -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_allTags() {
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(Set.of(FRIENDS, FAMILY), NONE, NONE);
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends", "family", "colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void test_anyTags() {
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(NONE, Set.of(FRIENDS, FAMILY), NONE);
+        assertTrue(predicate.test(new PersonBuilder().withTags("family").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void test_noTags() {
+        PersonHasTagsPredicate predicate = new PersonHasTagsPredicate(Set.of(FRIENDS), NONE, Set.of(FAMILY));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends", "colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "family").build()));
+
+        // only excluded tags -> persons without tags match
+        predicate = new PersonHasTagsPredicate(NONE, NONE, Set.of(FAMILY));
+        assertFalse(predicate.isIndexed());
+        assertTrue(predicate.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void addMatches_syntheticPersons_sameAsTest() {
+        List<Person> persons = List.of(SyntheticDataUtil.getSyntheticPersons(200));
+        TagRegistry registry = new TagRegistry();
+        persons.forEach(registry::add);
+
+        for (PersonHasTagsPredicate predicate : List.of(
+                new PersonHasTagsPredicate(Set.of(FRIENDS), NONE, NONE),
+                new PersonHasTagsPredicate(Set.of(FRIENDS, COLLEAGUES), NONE, NONE),
+                new PersonHasTagsPredicate(Set.of(FRIENDS), Set.of(FAMILY, COLLEAGUES), NONE),
+                new PersonHasTagsPredicate(NONE, Set.of(FAMILY, COLLEAGUES), Set.of(FRIENDS)),
+                new PersonHasTagsPredicate(Set.of(FRIENDS, FAMILY), NONE, NONE))) {
+            Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            predicate.addMatches(registry, matches);
+            assertEquals(persons.stream().filter(predicate).collect(Collectors.toSet()), matches,
+                    predicate.toString());
+        }
+    }
+}
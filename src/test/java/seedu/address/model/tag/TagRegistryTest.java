@@ -0,0 +1,81 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagRegistryTest {
+
+    private final TagRegistry registry = new TagRegistry();
+
+    @Test
+    public void add_persons_listedByTag() {
+        registry.add(ALICE);
+        registry.add(BENSON);
+        registry.add(CARL);
+        assertEquals(Set.of(ALICE, BENSON), registry.getPersons(new Tag("friends")));
+        assertEquals(Set.of(BENSON), registry.getPersons(new Tag("owesMoney")));
+        assertTrue(registry.getPersons(new Tag("family")).isEmpty());
+        assertEquals(Set.of(new Tag("friends"), new Tag("owesMoney")), registry.getTags());
+    }
+
+    @Test
+    public void remove_lastPersonWithTag_tagRemoved() {
+        registry.add(ALICE);
+        registry.add(BENSON);
+        long version = registry.getVersion();
+        registry.remove(BENSON);
+        assertEquals(Set.of(ALICE), registry.getPersons(new Tag("friends")));
+        assertEquals(Set.of(new Tag("friends")), registry.getTags());
+        assertNotEquals(version, registry.getVersion());
+    }
+
+    @Test
+    public void intern_personWithRegisteredTags_sharesTagInstances() {
+        registry.add(BENSON);
+        Tag friends = registry.intern(new Tag("friends"));
+
+        Person interned = registry.intern(new PersonBuilder(ALICE).build());
+        assertEquals(ALICE, interned);
+        assertSame(friends, interned.getTags().iterator().next());
+
+        // already sharing the registered instances
+        assertSame(interned, registry.intern(interned));
+
+        // tags that are not registered are kept
+        Person withNewTag = new PersonBuilder().withTags("family").build();
+        assertSame(withNewTag, registry.intern(withNewTag));
+    }
+
+    @Test
+    public void intern_personsSharingMap_shareTagInstances() {
+        Map<Tag, Tag> tagInstances = new HashMap<>();
+        Person benson = TagRegistry.intern(BENSON, tagInstances);
+        Person alice = TagRegistry.intern(new PersonBuilder(ALICE).build(), tagInstances);
+        assertSame(BENSON, benson);
+        assertSame(tagInstances.get(new Tag("friends")), alice.getTags().iterator().next());
+        assertTrue(benson.getTags().contains(new Tag("friends")));
+    }
+
+    @Test
+    public void setPersons_replacesContents() {
+        registry.add(ALICE);
+        registry.setPersons(List.of(BENSON));
+        assertEquals(Set.of(BENSON), registry.getPersons(new Tag("friends")));
+        assertEquals(Set.of(BENSON), registry.getPersons(new Tag("owesMoney")));
+    }
+}
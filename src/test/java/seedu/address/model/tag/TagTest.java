@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,18 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("best friend")); // spaces within name
+        assertFalse(Tag.isValidTagName("best_friend")); // non-alphanumeric characters
+        assertFalse(Tag.isValidTagName("café")); // non-ASCII letters
+        assertFalse(Tag.isValidTagName("a".repeat(Tag.MAX_TAG_LENGTH + 1))); // too long
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("friends"));
+        assertTrue(Tag.isValidTagName("Team2"));
+        assertTrue(Tag.isValidTagName("a".repeat(Tag.MAX_TAG_LENGTH))); // exactly the maximum length
     }
 
 }
@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Discord;
+import seedu.address.model.person.Person;
+import seedu.address.model.project.Project;
+
+public class SyntheticAddressBookGeneratorTest {
+
+    @Test
+    public void withMembershipDensity_outOfRange_throwsIllegalArgumentException() {
+        SyntheticAddressBookGenerator generator = new SyntheticAddressBookGenerator(1);
+        assertThrows(IllegalArgumentException.class, () -> generator.withMembershipDensity(1.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.withSocialsDensity(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withPersons(-1));
+    }
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        assertEquals(new SyntheticAddressBookGenerator(42).generate(),
+                new SyntheticAddressBookGenerator(42).generate());
+        assertNotEquals(new SyntheticAddressBookGenerator(42).generate(),
+                new SyntheticAddressBookGenerator(43).generate());
+    }
+
+    @Test
+    public void generate_customSettings_followsSettings() {
+        AddressBook addressBook = new SyntheticAddressBookGenerator(7).withPersons(500).withProjects(3)
+                .withTags(2).withSocialsDensity(0).withMembershipDensity(0.1).generate();
+
+        assertEquals(500, addressBook.getPersonList().size());
+        assertEquals(3, addressBook.getProjectList().size());
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(person.getTags().size() <= 2);
+            assertEquals(new Discord(""), person.getSocials().getDiscord());
+        }
+        for (Project project : addressBook.getProjectList()) {
+            // about 50 members expected
+            assertTrue(project.getMemberCount() > 20 && project.getMemberCount() < 100);
+        }
+    }
+
+    @Test
+    public void generate_fullMembership_everyPersonIsMember() {
+        AddressBook addressBook = new SyntheticAddressBookGenerator(7).withPersons(50).withProjects(1)
+                .withMembershipDensity(1).generate();
+        assertEquals(50, addressBook.getProjectList().get(0).getMemberCount());
+
+        addressBook = new SyntheticAddressBookGenerator(7).withPersons(50).withProjects(1)
+                .withMembershipDensity(0).generate();
+        assertEquals(0, addressBook.getProjectList().get(0).getMemberCount());
+    }
+}
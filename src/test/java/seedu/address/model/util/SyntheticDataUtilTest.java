@@ -0,0 +1,21 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SyntheticDataUtilTest {
+
+    @Test
+    public void getSyntheticPersons_sameCount_samePersons() {
+        assertArrayEquals(SyntheticDataUtil.getSyntheticPersons(50), SyntheticDataUtil.getSyntheticPersons(50));
+        assertEquals(SyntheticDataUtil.getSyntheticPerson(49), SyntheticDataUtil.getSyntheticPersons(50)[49]);
+    }
+
+    @Test
+    public void getSyntheticAddressBook_manyPersons_noDuplicates() {
+        // adding a duplicate person would throw
+        assertEquals(5000, SyntheticDataUtil.getSyntheticAddressBook(5000).getPersonList().size());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.priority.Priority;
+import seedu.address.model.project.Project;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path snapshotFilePath;
+    private BinaryAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        snapshotFilePath = BinaryAddressBookStorage.getSnapshotFilePath(filePath);
+        storage = new BinaryAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    private AddressBook getAddressBookWithProject() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addProject(new Project("Website", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE, BENSON)));
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_validAddressBook_savesJsonAndSnapshot() throws Exception {
+        AddressBook original = getAddressBookWithProject();
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        AddressBook snapshot = new AddressBook(storage.readSnapshot(filePath).get());
+        assertEquals(original, snapshot);
+        assertTrue(snapshot.getProjectList().get(0).hasMember(snapshot.getPersonByName(BENSON.getName())));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readSnapshot_jsonFileChanged_ignoresSnapshot() throws Exception {
+        storage.saveAddressBook(getAddressBookWithProject());
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        FileTime savedTime = Files.getLastModifiedTime(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(savedTime.toMillis() + 1000));
+
+        assertFalse(storage.readSnapshot(filePath).isPresent());
+        assertEquals(edited, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readSnapshot_damagedSnapshot_ignoresSnapshot() throws Exception {
+        AddressBook original = getAddressBookWithProject();
+        storage.saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(snapshotFilePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshotFilePath, bytes);
+
+        assertFalse(storage.readSnapshot(filePath).isPresent());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readSnapshot_truncatedSnapshot_ignoresSnapshot() throws Exception {
+        storage.saveAddressBook(getAddressBookWithProject());
+        Files.write(snapshotFilePath, new byte[] {1, 2, 3});
+
+        assertFalse(storage.readSnapshot(filePath).isPresent());
+    }
+}
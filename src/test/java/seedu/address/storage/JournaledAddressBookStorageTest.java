@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.priority.Priority;
+import seedu.address.model.project.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    private JournaledAddressBookStorage createStorage(int snapshotInterval) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), snapshotInterval);
+    }
+
+    /**
+     * Saves {@code addressBook} as a snapshot with {@code storage}.
+     */
+    private void saveSnapshot(JournaledAddressBookStorage storage, AddressBook addressBook) throws Exception {
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, getJournalRecordCount());
+    }
+
+    /**
+     * Returns the number of records in the journal, which starts with a header.
+     */
+    private int getJournalRecordCount() throws Exception {
+        return Files.readAllLines(journalFilePath).size() - 1;
+    }
+
+    private AddressBook readBack() throws DataLoadingException {
+        return new AddressBook(createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL)
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_nonPositiveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createStorage(0));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(1).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_notRead_savesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL).saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertEquals(0, getJournalRecordCount());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        saveSnapshot(storage, addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        addressBook.removePerson(CARL);
+        addressBook.addProject(new Project("Website", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE, HOON)));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, getJournalRecordCount());
+        assertEquals(addressBook, readBack());
+
+        // unchanged address book -> nothing appended
+        storage.saveAddressBook(addressBook);
+        assertEquals(4, getJournalRecordCount());
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReadAddressBook_appendedToJournal() throws Exception {
+        saveSnapshot(createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL), getTypicalAddressBook());
+        JournaledAddressBookStorage storage = createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook(filePath).get());
+        String snapshot = Files.readString(filePath);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook, filePath);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, getJournalRecordCount());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_otherAddressBook_savesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        saveSnapshot(storage, getTypicalAddressBook());
+
+        AddressBook otherAddressBook = getTypicalAddressBook();
+        otherAddressBook.addPerson(HOON);
+        saveSnapshot(storage, otherAddressBook);
+        assertEquals(otherAddressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_savesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(2);
+        AddressBook addressBook = getTypicalAddressBook();
+        saveSnapshot(storage, addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, getJournalRecordCount());
+
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(BENSON);
+        saveSnapshot(storage, addressBook);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_savesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        saveSnapshot(storage, addressBook);
+        List<Person> reversedPersons = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversedPersons);
+        addressBook.setPersons(reversedPersons);
+
+        saveSnapshot(storage, addressBook);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipsRecord() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        saveSnapshot(storage, addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(journalFilePath, "{\"type\":\"DELETE_PERSON\",\"tar", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        saveSnapshot(storage, addressBook);
+        // replaying these over the snapshot that has them renames the wrong person into a duplicate name
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Alice Pauline").build());
+        addressBook.addPerson(new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        // as left behind if saving stopped between writing a snapshot and starting a new journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_journalIgnored_savesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        saveSnapshot(storage, getTypicalAddressBook());
+        // a journal without a header, as written for no snapshot
+        Files.writeString(journalFilePath, "{\"type\":\"DELETE_PERSON\",\"target\":\"Alice Pauline\"}\n");
+
+        JournaledAddressBookStorage restartedStorage = createStorage(
+                JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL);
+        AddressBook addressBook = new AddressBook(restartedStorage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        addressBook.addPerson(HOON);
+        saveSnapshot(restartedStorage, addressBook);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        createStorage(1).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(journalFilePath, "{\"type\":\"PUT_PERSON\"}\n{\"type\":\"DELETE_PROJECT\"}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(1).readAddressBook());
+    }
+}
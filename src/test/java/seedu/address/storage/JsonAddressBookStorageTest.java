@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.priority.Priority;
+import seedu.address.model.project.Project;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +95,107 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptFile_recoversFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+        assertTrue(FileUtil.isFileExists(JsonAddressBookStorage.getBackupFilePath(filePath)));
+
+        // a truncated data file falls back to the previous save
+        FileUtil.writeToFile(filePath, "{ \"persons\": [");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // so does a missing one
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compactFormat_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, StorageFormat.COMPACT);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipFormat_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, StorageFormat.GZIP);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        Path compressedFilePath = testFolder.resolve("TempAddressBook.json.gz");
+        assertEquals(compressedFilePath, jsonAddressBookStorage.getAddressBookFilePath());
+        assertFalse(Files.exists(filePath));
+        byte[] header = Files.readAllBytes(compressedFilePath);
+        assertEquals((byte) 0x1f, header[0]);
+        assertEquals((byte) 0x8b, header[1]);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // the format is detected from the file itself
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_switchedToGzipFormat_readsUncompressedFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, StorageFormat.GZIP);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(
+                jsonAddressBookStorage.getAddressBookFilePath()).get()));
+    }
+
+    @Test
+    public void readAddressBook_switchedFromGzipFormat_readsCompressedFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, StorageFormat.GZIP).saveAddressBook(original);
+
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_projectsBeforePersons_resolvesMembers() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"projects\": [ { \"name\": \"Website\", \"priority\": \"HIGH\","
+                + " \"deadline\": \"2030-01-01\", \"members\": [ \"Alice Pauline\" ] } ],"
+                + " \"persons\": [ { \"name\": \"Alice Pauline\", \"phone\": \"94351253\","
+                + " \"email\": \"alice@example.com\", \"address\": \"123, Jurong West Ave 6\","
+                + " \"priority\": \"LOW\" } ] }");
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        Person alice = readBack.getPersonList().get(0);
+        assertTrue(readBack.getProjectList().get(0).hasMember(alice));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_withProjects_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addProject(new Project("Website", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(ALICE, HOON)));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+
+        // HOON is not in the address book, so only ALICE is saved as a member
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        Project project = readBack.getProjectList().get(0);
+        assertEquals(1, project.getMemberCount());
+        assertTrue(project.hasMember(readBack.getPersonList().get(0)));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.priority.Priority;
+import seedu.address.model.project.Project;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -29,6 +41,21 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_projectWithMembers_resolvesMembersByName() throws Exception {
+        AddressBook source = TypicalPersons.getTypicalAddressBook();
+        source.addProject(new Project("Website", Priority.HIGH, LocalDate.of(2030, 1, 1), Set.of(BENSON, CARL)));
+
+        AddressBook converted = new JsonSerializableAddressBook(source).toModelType();
+
+        Project project = converted.getProjectByName("Website");
+        assertEquals(2, project.getMemberCount());
+        for (int memberId : project.getMemberIds()) {
+            Person member = converted.getPersonById(memberId);
+            assertTrue(member.equals(BENSON) || member.equals(CARL));
+        }
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -44,4 +71,30 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_severalInvalidPersons_reportsAllErrors() {
+        JsonAdaptedPerson invalidPhone = new JsonAdaptedPerson("Amy Bee", "+651234", "amy@example.com", "", "", "",
+                "", "Block 312", "LOW", null);
+        JsonAdaptedPerson invalidName = new JsonAdaptedPerson("R@chel", "911", "rachel@example.com", "", "", "", "",
+                "Block 123", "LOW", null);
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(
+                List.of(invalidPhone, new JsonAdaptedPerson(BENSON), invalidName, new JsonAdaptedPerson(BENSON)),
+                null);
+
+        // conversion errors come before those found by the deduplication pass
+        String expectedMessage = String.join("\n", Phone.MESSAGE_CONSTRAINTS, Name.MESSAGE_CONSTRAINTS,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        assertThrows(IllegalValueException.class, expectedMessage, addressBook::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersons_convertedInOrder() throws Exception {
+        AddressBook source = new AddressBook();
+        for (int i = 0; i < 2 * JsonSerializableAddressBook.PARALLEL_THRESHOLD; i++) {
+            source.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+
+        assertEquals(source, new JsonSerializableAddressBook(source).toModelType());
+    }
+
 }
@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonSortField;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.SortKey;
 
 public class JsonUserPrefsStorageTest {
 
@@ -74,6 +78,9 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setAddressBookFilePath(Paths.get("addressbook.json"));
+        userPrefs.setAddressBookWriteBehind(false);
+        userPrefs.setPersonSortOrder(new PersonSortOrder(List.of(
+                new SortKey(PersonSortField.PRIORITY, false), new SortKey(PersonSortField.ADDRESS, true))));
         return userPrefs;
     }
 
@@ -115,6 +122,7 @@ public class JsonUserPrefsStorageTest {
 
         //Try saving when the file exists
         original.setGuiSettings(new GuiSettings(5, 5, 5, 5));
+        original.setPersonSortOrder(new PersonSortOrder(List.of(new SortKey(PersonSortField.EMAIL, false))));
         jsonUserPrefsStorage.saveUserPrefs(original);
         readBack = jsonUserPrefsStorage.readUserPrefs().get();
         assertEquals(original, readBack);
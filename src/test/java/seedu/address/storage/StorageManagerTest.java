@@ -2,8 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +68,91 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_writeBehind_writesLatestSnapshotOnFlush() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        writeBehindStorage.saveAddressBook(original);
+
+        // changes made after the save was requested are not written
+        AddressBook expected = new AddressBook(original);
+        original.removePerson(HOON);
+
+        writeBehindStorage.flush();
+        assertEquals(expected, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journaledSingleEdit_appendedToJournal() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath),
+                JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+        StorageManager journaledStorage = new StorageManager(new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath), JournaledAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        // as the app does: the model keeps its own copy of the address book that was read
+        AddressBook addressBook = new AddressBook(journaledStorage.readAddressBook().get());
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        journaledStorage.saveAddressBook(addressBook);
+        journaledStorage.flush();
+
+        assertEquals(snapshot, Files.readString(filePath));
+        // the header and the record of the edit
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new AddressBook(journaledStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void createAddressBookStorage_storageFormatSwitched_keepsData() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getTempFilePath("ab.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+
+        // as the app starts up with no data file, saving a snapshot and then a journaled edit
+        StorageManager prettyStorage = new StorageManager(StorageManager.createAddressBookStorage(userPrefs),
+                userPrefsStorage, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        prettyStorage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        prettyStorage.saveAddressBook(addressBook);
+        prettyStorage.flush();
+
+        userPrefs.setAddressBookStorageFormat(StorageFormat.GZIP);
+        StorageManager gzipStorage = new StorageManager(StorageManager.createAddressBookStorage(userPrefs),
+                userPrefsStorage, true);
+        AddressBook readBack = new AddressBook(gzipStorage.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+
+        readBack.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("98765432").build());
+        gzipStorage.saveAddressBook(readBack);
+        gzipStorage.flush();
+        assertEquals(readBack, new AddressBook(new StorageManager(StorageManager.createAddressBookStorage(userPrefs),
+                userPrefsStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFails_failureThrownOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "disk full", writeBehindStorage::flush);
+        writeBehindStorage.checkForFailedSave();
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -39,6 +39,7 @@ public class PersonBuilder {
     private Address address;
     private Priority priority;
     private Set<Tag> tags;
+    private int id;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -55,6 +56,7 @@ public class PersonBuilder {
         address = new Address(DEFAULT_ADDRESS);
         priority = new Priority(DEFAULT_PRIORITY);
         tags = new HashSet<>();
+        id = Person.UNASSIGNED_ID;
     }
 
     /**
@@ -68,6 +70,7 @@ public class PersonBuilder {
         address = personToCopy.getAddress();
         priority = personToCopy.getPriority();
         tags = new HashSet<>(personToCopy.getTags());
+        id = personToCopy.getId();
     }
 
     /**
@@ -133,8 +136,16 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Person} that we are building.
+     */
+    public PersonBuilder withId(int id) {
+        this.id = id;
+        return this;
+    }
+
     public Person build() {
-        return new Person(name, phone, email, socials, address, priority, tags);
+        return new Person(name, phone, email, socials, address, priority, tags).withId(id);
     }
 
 }
@@ -34,7 +34,7 @@ public class TypicalPersons {
                             "@alic3",
                             "youtube.com/@alicechannel")
             .withPriority("LOW")
-            .withTags("friends").build();
+            .withTags("friends").withId(1).build();
     public static final Person BENSON = new PersonBuilder().withName("Benson Meier")
             .withAddress("311, Clementi Ave 2, #02-25")
             .withEmail("johnd@example.com").withPhone("98765432")
@@ -43,37 +43,37 @@ public class TypicalPersons {
                             "@bensonmeier",
                             "youtube.com/@bensonmeier")
             .withPriority("LOW")
-            .withTags("owesMoney", "friends").build();
+            .withTags("owesMoney", "friends").withId(2).build();
     public static final Person CARL = new PersonBuilder().withName("Carl Kurz").withPhone("95352563")
             .withEmail("heinz@example.com").withSocials("", "", "", "")
-            .withAddress("wall street").withPriority("LOW").build();
+            .withAddress("wall street").withPriority("LOW").withId(3).build();
     public static final Person DANIEL = new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
             .withEmail("cornelia@example.com").withSocials("", "", "", "")
-            .withAddress("10th street").withPriority("LOW").withTags("friends").build();
+            .withAddress("10th street").withPriority("LOW").withTags("friends").withId(4).build();
     public static final Person ELLE = new PersonBuilder().withName("Elle Meyer").withPhone("9482224")
             .withEmail("werner@example.com").withSocials("", "", "", "")
-            .withAddress("michegan ave").withPriority("LOW").build();
+            .withAddress("michegan ave").withPriority("LOW").withId(5).build();
     public static final Person FIONA = new PersonBuilder().withName("Fiona Kunz").withPhone("9482427")
             .withEmail("lydia@example.com").withSocials("", "", "", "")
-            .withAddress("little tokyo").withPriority("LOW").build();
+            .withAddress("little tokyo").withPriority("LOW").withId(6).build();
     public static final Person GEORGE = new PersonBuilder().withName("George Best").withPhone("9482442")
             .withEmail("anna@example.com").withSocials("", "", "", "")
-            .withAddress("4th street").withPriority("LOW").build();
+            .withAddress("4th street").withPriority("LOW").withId(7).build();
 
     // Manually added
     public static final Person HOON = new PersonBuilder().withName("Hoon Meier").withPhone("8482424")
-            .withEmail("stefan@example.com").withAddress("little india").withPriority("LOW").build();
+            .withEmail("stefan@example.com").withAddress("little india").withPriority("LOW").withId(8).build();
     public static final Person IDA = new PersonBuilder().withName("Ida Mueller").withPhone("8482131")
-            .withEmail("hans@example.com").withAddress("chicago ave").withPriority("LOW").build();
+            .withEmail("hans@example.com").withAddress("chicago ave").withPriority("LOW").withId(9).build();
 
     // Manually added - Person's details found in {@code CommandTestUtil}
     public static final Person AMY = new PersonBuilder().withName(VALID_NAME_AMY).withPhone(VALID_PHONE_AMY)
             .withEmail(VALID_EMAIL_AMY).withAddress(VALID_ADDRESS_AMY).withPriority(VALID_PRIORITY_AMY)
-            .withTags(VALID_TAG_FRIEND).build();
+            .withTags(VALID_TAG_FRIEND).withId(10).build();
     public static final Person BOB = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
             .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).withPriority(VALID_PRIORITY_BOB)
             .withTags(VALID_TAG_HUSBAND, VALID_TAG_FRIEND)
-            .build();
+            .withId(11).build();
 
     public static final String KEYWORD_MATCHING_MEIER = "Meier"; // A keyword that matches MEIER
 